@@ -2,6 +2,7 @@ plugins {
     java
     id("org.springframework.boot") version "4.0.0"
     id("io.spring.dependency-management") version "1.1.7"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com.back"
@@ -35,6 +36,10 @@ dependencies {
     runtimeOnly("com.mysql:mysql-connector-j")
     annotationProcessor("org.projectlombok:lombok")
     implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:2.8.9")
+    // 메트릭 (/actuator/prometheus)
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+    implementation("org.hibernate.orm:hibernate-micrometer")
+    runtimeOnly("io.micrometer:micrometer-registry-prometheus")
 
     // 테스트용 의존성
     testImplementation("org.springframework.boot:spring-boot-starter-test")
@@ -46,3 +51,64 @@ dependencies {
 tasks.withType<Test> {
     useJUnitPlatform()
 }
+
+// 부하 테스트 (src/loadtest) - 애플리케이션 클래스와 의존성을 그대로 사용한다
+sourceSets {
+    create("loadtest") {
+        java.srcDir("src/loadtest/java")
+        resources.srcDir("src/loadtest/resources")
+        compileClasspath += sourceSets.main.get().output
+        runtimeClasspath += sourceSets.main.get().output
+    }
+}
+
+val loadtestImplementation by configurations.getting {
+    extendsFrom(configurations.implementation.get())
+}
+val loadtestRuntimeOnly by configurations.getting {
+    extendsFrom(configurations.runtimeOnly.get())
+}
+configurations["loadtestCompileOnly"].extendsFrom(configurations.compileOnly.get())
+configurations["loadtestAnnotationProcessor"].extendsFrom(configurations.annotationProcessor.get())
+
+dependencies {
+    // perf 프로필용 내장 MySQL 호환 DB, 지연 시간 히스토그램
+    loadtestImplementation("ch.vorburger.mariaDB4j:mariaDB4j:3.1.0")
+    loadtestImplementation("org.hdrhistogram:HdrHistogram:2.2.2")
+}
+
+tasks.register<JavaExec>("threadModeLoadTest") {
+    group = "verification"
+    description = "플랫폼/가상 스레드 모드 비교용 부하 테스트 (-Plabel=platform|virtual)"
+    classpath = sourceSets["loadtest"].runtimeClasspath
+    mainClass = "com.back.loadtest.ThreadModeLoadTest"
+    args = listOf("baseUrl", "label", "concurrency", "warmupSeconds", "durationSeconds", "seed")
+        .mapNotNull { key -> project.findProperty(key)?.let { "--$key=$it" } }
+}
+
+// JMH 벤치마크 (src/jmh) - ./gradlew jmh [-PjmhIncludes=OrderList]
+// 결과는 build/results/jmh/results.json 에 저장되므로 변경 전후 결과를 비교한다
+jmh {
+    jmhVersion = "1.37"
+    resultFormat = "JSON"
+    (project.findProperty("jmhIncludes") as String?)?.let { includes = listOf(it) }
+}
+
+// perf 프로필(내장 DB + 시드 데이터)로 애플리케이션을 띄우고 혼합 부하를 건다 (옵션은 PerfLoadTest 참고)
+tasks.register<JavaExec>("perfLoadTest") {
+    group = "verification"
+    description = "내장 DB 로 애플리케이션을 띄우고 closed/open-loop 혼합 부하 테스트 (-Pmode=closed|open)"
+    classpath = sourceSets["loadtest"].runtimeClasspath
+    mainClass = "com.back.loadtest.PerfLoadTest"
+    args = listOf("baseUrl", "mode", "concurrency", "rate", "warmupSeconds", "durationSeconds", "mix", "customers", "seed")
+        .mapNotNull { key -> project.findProperty(key)?.let { "--$key=$it" } }
+}
+
+// perf 프로필로 애플리케이션만 실행 (다른 머신에서 부하를 걸 때)
+tasks.register<JavaExec>("perfBootRun") {
+    group = "application"
+    description = "내장 DB 와 시드 데이터로 애플리케이션 실행 (perf 프로필)"
+    classpath = sourceSets["loadtest"].runtimeClasspath
+    mainClass = "com.back.AppApplication"
+    args = listOf("--spring.profiles.active=perf")
+}
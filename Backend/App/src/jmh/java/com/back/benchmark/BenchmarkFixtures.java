@@ -0,0 +1,104 @@
+package com.back.benchmark;
+
+import com.back.domain.order.menu.entity.Menu;
+import com.back.domain.order.order.dto.OrderHistoryRow;
+import com.back.global.jpa.entity.BaseEntity;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+// 벤치마크 입력 데이터. 시드를 고정해 실행마다 같은 데이터로 측정한다
+final class BenchmarkFixtures {
+
+    static final String EMAIL = "bench@test.com";
+    static final int MENU_COUNT = 50;
+    // 주문 하나당 평균 상품 종류 수 (주문 내역 그룹핑 시 주문 수를 결정)
+    static final int ITEMS_PER_ORDER = 4;
+
+    private static final Field ID_FIELD;
+
+    static {
+        try {
+            ID_FIELD = BaseEntity.class.getDeclaredField("id");
+            ID_FIELD.setAccessible(true);
+        } catch (NoSuchFieldException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private BenchmarkFixtures() {
+    }
+
+    // 생성자 파라미터를 타입으로 찾아 채운다 (넘기지 않은 의존성은 null)
+    // 위치 기반 new XxxService(null, null, ...) 는 생성자 파라미터가 바뀔 때마다 깨지므로 사용하지 않는다
+    static <T> T newService(Class<T> type, Object... dependencies) {
+        Constructor<?>[] constructors = type.getConstructors();
+        if (constructors.length != 1) {
+            throw new IllegalArgumentException(type.getSimpleName() + " 의 public 생성자가 하나가 아닙니다.");
+        }
+
+        Class<?>[] parameterTypes = constructors[0].getParameterTypes();
+        Object[] args = new Object[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            for (Object dependency : dependencies) {
+                if (parameterTypes[i].isInstance(dependency)) {
+                    args[i] = dependency;
+                    break;
+                }
+            }
+            if (args[i] == null && parameterTypes[i].isPrimitive()) {
+                throw new IllegalArgumentException(type.getSimpleName() + " 생성자의 기본형 파라미터는 채울 수 없습니다: " + parameterTypes[i]);
+            }
+        }
+
+        try {
+            return type.cast(constructors[0].newInstance(args));
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static List<Menu> menus(int count) {
+        List<Menu> menus = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            Menu menu = new Menu("원두 " + i, "/images/" + i + ".png", 3000 + i * 100, "커피", "admin@test.com");
+            setId(menu, i);
+            menus.add(menu);
+        }
+        return menus;
+    }
+
+    // 고객 한 명의 주문 내역 행 (findHistoryRowsByEmail 결과와 같은 주문 id 순 정렬)
+    static List<OrderHistoryRow> historyRows(int itemCount, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<OrderHistoryRow> rows = new ArrayList<>(itemCount);
+
+        long orderId = 1_000;
+        for (int i = 0; i < itemCount; i++) {
+            if (i % ITEMS_PER_ORDER == 0) orderId++;
+
+            int menuNo = 1 + random.nextInt(MENU_COUNT);
+            rows.add(new OrderHistoryRow(
+                    orderId,
+                    "서울시 강남구 테헤란로 " + orderId,
+                    10_000 + (int) (orderId % 90_000),
+                    "원두 " + menuNo,
+                    3000 + menuNo * 100,
+                    1 + random.nextInt(5)
+            ));
+        }
+        return rows;
+    }
+
+    static void setId(BaseEntity entity, long id) {
+        try {
+            ID_FIELD.setLong(entity, id);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
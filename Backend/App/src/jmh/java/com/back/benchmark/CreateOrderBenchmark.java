@@ -0,0 +1,116 @@
+package com.back.benchmark;
+
+import com.back.domain.order.customer.entity.Customer;
+import com.back.domain.order.customer.repository.CustomerRepository;
+import com.back.domain.order.customer.service.CustomerService;
+import com.back.domain.order.menu.entity.Menu;
+import com.back.domain.order.menu.repository.MenuRepository;
+import com.back.domain.order.order.dto.OrderDto;
+import com.back.domain.order.order.repository.OrderRepository;
+import com.back.domain.order.order.service.OrderCreateMetrics;
+import com.back.domain.order.order.service.OrderService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// 주문 생성: 요청 검증(메뉴 존재 확인) → 주문/주문 상품 엔티티 구성까지의 CPU 비용
+// 리포지토리는 스텁이므로 DB 왕복은 포함되지 않는다
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CreateOrderBenchmark {
+
+    // 주문 한 건의 상품 수
+    @Param({"1", "100", "1000", "10000"})
+    public int itemCount;
+
+    private OrderService orderService;
+    private OrderDto.CreateRequest validRequest;
+    private OrderDto.CreateRequest missingMenuRequest;
+
+    @Setup
+    public void setup() {
+        List<Menu> menus = BenchmarkFixtures.menus(BenchmarkFixtures.MENU_COUNT);
+
+        MenuRepository menuRepository = RepositoryStubs.stub(MenuRepository.class, Map.of(
+                "findAllById", args -> {
+                    List<Menu> found = new ArrayList<>();
+                    for (Object id : (Iterable<?>) args[0]) {
+                        long menuId = (Long) id;
+                        if (menuId >= 1 && menuId <= menus.size()) {
+                            found.add(menus.get((int) menuId - 1));
+                        }
+                    }
+                    return found;
+                }
+        ));
+        CustomerRepository customerRepository = RepositoryStubs.stub(CustomerRepository.class, Map.of(
+                "upsertByEmail", args -> 1,
+                "lastInsertId", args -> 1L,
+                // 호출마다 새 고객을 돌려준다. 하나를 재사용하면 customer.orders 에 주문이 계속 쌓여
+                // 측정 시간이 호출 횟수에 비례해 늘고 메모리도 고갈된다
+                "getReferenceById", args -> {
+                    Customer customer = new Customer(BenchmarkFixtures.EMAIL);
+                    BenchmarkFixtures.setId(customer, 1);
+                    return customer;
+                }
+        ));
+        OrderRepository orderRepository = RepositoryStubs.stub(OrderRepository.class, Map.of(
+                "save", args -> args[0]
+        ));
+
+        CustomerService customerService = new CustomerService(customerRepository, 1_000, 60);
+        orderService = BenchmarkFixtures.newService(OrderService.class,
+                customerRepository, customerService, orderRepository, menuRepository,
+                new OrderCreateMetrics(new SimpleMeterRegistry())
+        );
+
+        validRequest = request(itemCount, BenchmarkFixtures.MENU_COUNT);
+        // 마지막 상품만 존재하지 않는 메뉴
+        missingMenuRequest = request(itemCount, BenchmarkFixtures.MENU_COUNT + 1);
+    }
+
+    private static OrderDto.CreateRequest request(int itemCount, long lastMenuId) {
+        SplittableRandom random = new SplittableRandom(7);
+        List<OrderDto.OrderItemRequest> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount - 1; i++) {
+            items.add(new OrderDto.OrderItemRequest(1L + random.nextInt(BenchmarkFixtures.MENU_COUNT), 1 + random.nextInt(3)));
+        }
+        items.add(new OrderDto.OrderItemRequest(lastMenuId, 1));
+
+        return new OrderDto.CreateRequest(BenchmarkFixtures.EMAIL, "서울시 강남구", 12345, items);
+    }
+
+    @Benchmark
+    public void createOrder() {
+        orderService.createOrder(validRequest);
+    }
+
+    @Benchmark
+    public void createOrderWithMissingMenu(Blackhole blackhole) {
+        try {
+            orderService.createOrder(missingMenuRequest);
+        } catch (IllegalArgumentException e) {
+            blackhole.consume(e);
+        }
+    }
+}
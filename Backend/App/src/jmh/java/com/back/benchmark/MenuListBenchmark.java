@@ -0,0 +1,56 @@
+package com.back.benchmark;
+
+import com.back.domain.order.menu.dto.MenuDto.MenuListResponse;
+import com.back.domain.order.menu.entity.Menu;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 메뉴 목록: 엔티티 → MenuListResponse 매핑과 카탈로그 JSON 직렬화 (MenuCatalogCache 재적재 비용)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MenuListBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int menuCount;
+
+    private List<Menu> menus;
+    private List<MenuListResponse> responses;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setup() {
+        menus = BenchmarkFixtures.menus(menuCount);
+        responses = mapMenus();
+        objectMapper = new ObjectMapper();
+    }
+
+    @Benchmark
+    public List<MenuListResponse> mapMenus() {
+        return menus.stream()
+                .map(MenuListResponse::new)
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] serializeMenus() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(responses);
+    }
+}
@@ -0,0 +1,64 @@
+package com.back.benchmark;
+
+import com.back.domain.order.order.dto.OrderDto;
+import com.back.domain.order.order.dto.OrderHistoryRow;
+import com.back.domain.order.order.service.OrderService;
+import com.back.domain.order.orderitem.repository.OrderItemRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 주문 내역 조회: 조회 행 → 주문별 그룹핑(LinkedHashMap + ArrayList) 과 응답 JSON 직렬화
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderListBenchmark {
+
+    // 고객 한 명의 주문 상품 수
+    @Param({"1", "100", "1000", "10000"})
+    public int itemCount;
+
+    private OrderService orderService;
+    private OrderDto.OrderListResponse response;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setup() {
+        List<OrderHistoryRow> rows = BenchmarkFixtures.historyRows(itemCount, 42);
+
+        OrderItemRepository orderItemRepository = RepositoryStubs.stub(OrderItemRepository.class, Map.of(
+                "findHistoryRowsByEmail", args -> rows
+        ));
+        orderService = BenchmarkFixtures.newService(OrderService.class, orderItemRepository);
+
+        response = orderService.getOrderList(BenchmarkFixtures.EMAIL);
+        objectMapper = new ObjectMapper();
+    }
+
+    @Benchmark
+    public OrderDto.OrderListResponse groupOrderList() {
+        return orderService.getOrderList(BenchmarkFixtures.EMAIL);
+    }
+
+    @Benchmark
+    public byte[] serializeOrderList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,33 @@
+package com.back.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+// 벤치마크용 리포지토리 스텁. DB 없이 서비스 계층의 CPU 비용만 측정하기 위해
+// 지정한 메서드만 응답하고, 그 외 메서드가 호출되면 예외를 던져 측정 범위를 벗어난 것을 바로 알린다
+final class RepositoryStubs {
+
+    private RepositoryStubs() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T stub(Class<T> type, Map<String, Function<Object[], Object>> handlers) {
+        return (T) Proxy.newProxyInstance(
+                type.getClassLoader(),
+                new Class<?>[]{type},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "toString" -> type.getSimpleName() + "Stub";
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> {
+                        Function<Object[], Object> handler = handlers.get(method.getName());
+                        if (handler == null) {
+                            throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+                        }
+                        yield handler.apply(args);
+                    }
+                }
+        );
+    }
+}
@@ -0,0 +1,322 @@
+package com.back.loadtest;
+
+import com.back.AppApplication;
+import com.back.global.initData.BulkDataSeeder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 메뉴 조회 / 주문 생성 / 주문 내역 조회 / 이미지 업로드를 섞어 보내는 부하 생성기
+//
+//   ./gradlew perfLoadTest                                      (perf 프로필 앱을 같은 JVM 에서 띄우고 측정)
+//   ./gradlew perfLoadTest -Pmode=open -Prate=500               (초당 500 요청 고정 도착률)
+//   ./gradlew perfLoadTest -PbaseUrl=http://host:8080           (이미 떠 있는 서버 대상, perf 데이터가 있어야 함)
+//
+// closed 모드: concurrency 명의 유저가 응답을 받자마자 다음 요청을 보낸다 (최대 처리량 측정)
+// open 모드: 응답과 무관하게 rate 로 요청을 발생시키고, 지연 시간을 "보냈어야 할 시각"부터 잰다
+//           (서버가 밀려도 측정이 느려지지 않아 coordinated omission 을 피한다)
+//
+// 옵션(-P): baseUrl, mode, concurrency, rate, warmupSeconds, durationSeconds, mix, customers, seed
+// 결과: 콘솔 요약 + build/loadtest/perf/<endpoint>.hgrm (HdrHistogram 백분위 분포)
+public class PerfLoadTest {
+
+    private static final Pattern MENU_ID = Pattern.compile("\"menu_id\"\\s*:\\s*(\\d+)");
+    // 1시간까지 기록, 유효숫자 3자리 (마이크로초 단위)
+    private static final long MAX_LATENCY_MICROS = TimeUnit.HOURS.toMicros(1);
+
+    enum Endpoint {
+        MENU_LIST("GET /api/menu"),
+        ORDER_CREATE("POST /api/order"),
+        ORDER_HISTORY("POST /api/order/list"),
+        IMAGE_UPLOAD("POST /api/upload/image");
+
+        final String label;
+
+        Endpoint(String label) {
+            this.label = label;
+        }
+    }
+
+    private final String baseUrl;
+    private final HttpClient client;
+    private final List<Long> menuIds;
+    private final int customers;
+    private final Endpoint[] mixTable;
+    private final byte[] image;
+
+    private final Map<Endpoint, Histogram> histograms = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, AtomicLong> errors = new EnumMap<>(Endpoint.class);
+
+    private PerfLoadTest(String baseUrl, HttpClient client, List<Long> menuIds, int customers, Endpoint[] mixTable, byte[] image) {
+        this.baseUrl = baseUrl;
+        this.client = client;
+        this.menuIds = menuIds;
+        this.customers = customers;
+        this.mixTable = mixTable;
+        this.image = image;
+        reset();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseArgs(args);
+        String mode = options.getOrDefault("mode", "closed");
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "64"));
+        int rate = Integer.parseInt(options.getOrDefault("rate", "200"));
+        int warmupSeconds = Integer.parseInt(options.getOrDefault("warmupSeconds", "10"));
+        int durationSeconds = Integer.parseInt(options.getOrDefault("durationSeconds", "30"));
+        int customers = Integer.parseInt(options.getOrDefault("customers", "1000"));
+        long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+        Endpoint[] mixTable = parseMix(options.getOrDefault("mix", "menu:50,order:20,history:25,upload:5"));
+
+        // baseUrl 이 없으면 perf 프로필(내장 DB + 시드 데이터)로 애플리케이션을 직접 띄운다
+        ConfigurableApplicationContext app = null;
+        String baseUrl = options.get("baseUrl");
+        if (baseUrl == null) {
+            app = SpringApplication.run(AppApplication.class,
+                    "--spring.profiles.active=perf",
+                    "--server.port=0",
+                    "--init-data.bulk.customers=" + customers);
+            baseUrl = "http://localhost:" + app.getEnvironment().getProperty("local.server.port");
+        }
+
+        try {
+            HttpClient client = HttpClient.newBuilder()
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .build();
+
+            PerfLoadTest test = new PerfLoadTest(baseUrl, client, fetchMenuIds(client, baseUrl), customers, mixTable, sampleImage());
+
+            System.out.printf("warmup %ds (%s)%n", warmupSeconds, mode);
+            test.run(mode, concurrency, rate, warmupSeconds, seed);
+            test.reset();
+
+            System.out.printf("measure %ds (%s, concurrency=%d, rate=%d)%n", durationSeconds, mode, concurrency, rate);
+            test.run(mode, concurrency, rate, durationSeconds, seed + 1);
+            test.report(durationSeconds, Path.of("build", "loadtest", "perf"));
+        } finally {
+            if (app != null) app.close();
+        }
+    }
+
+    private void reset() {
+        for (Endpoint endpoint : Endpoint.values()) {
+            histograms.put(endpoint, new ConcurrentHistogram(MAX_LATENCY_MICROS, 3));
+            errors.put(endpoint, new AtomicLong());
+        }
+    }
+
+    private void run(String mode, int concurrency, int rate, int seconds, long seed) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            if (mode.equals("open")) {
+                runOpenLoop(executor, rate, deadline, new SplittableRandom(seed));
+            } else {
+                runClosedLoop(executor, concurrency, deadline, seed);
+            }
+        }
+    }
+
+    private void runClosedLoop(ExecutorService executor, int concurrency, long deadline, long seed) {
+        for (int user = 0; user < concurrency; user++) {
+            SplittableRandom random = new SplittableRandom(seed * 31 + user);
+            executor.submit(() -> {
+                while (System.nanoTime() < deadline) {
+                    send(nextEndpoint(random), random, System.nanoTime());
+                }
+            });
+        }
+    }
+
+    private void runOpenLoop(ExecutorService executor, int rate, long deadline, SplittableRandom random) {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long intendedStart = System.nanoTime();
+
+        while (intendedStart < deadline) {
+            long wait = intendedStart - System.nanoTime();
+            if (wait > 0) LockSupport.parkNanos(wait);
+
+            SplittableRandom requestRandom = random.split();
+            long scheduledAt = intendedStart;
+            executor.submit(() -> send(nextEndpoint(requestRandom), requestRandom, scheduledAt));
+
+            intendedStart += intervalNanos;
+        }
+    }
+
+    private Endpoint nextEndpoint(SplittableRandom random) {
+        return mixTable[random.nextInt(mixTable.length)];
+    }
+
+    private void send(Endpoint endpoint, SplittableRandom random, long startNanos) {
+        try {
+            HttpResponse<Void> response = client.send(request(endpoint, random), HttpResponse.BodyHandlers.discarding());
+            long micros = (System.nanoTime() - startNanos) / 1_000;
+
+            if (response.statusCode() >= 400) {
+                errors.get(endpoint).incrementAndGet();
+            } else {
+                histograms.get(endpoint).recordValue(Math.min(micros, MAX_LATENCY_MICROS));
+            }
+        } catch (IOException e) {
+            errors.get(endpoint).incrementAndGet();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private HttpRequest request(Endpoint endpoint, SplittableRandom random) {
+        String email = BulkDataSeeder.EMAIL_FORMAT.formatted(random.nextInt(customers));
+
+        return switch (endpoint) {
+            case MENU_LIST -> HttpRequest.newBuilder(URI.create(baseUrl + "/api/menu")).GET().build();
+            case ORDER_CREATE -> json("/api/order", """
+                    {"email":"%s","address":"서울시 강남구","postcode":12345,
+                     "items":[{"menuId":%d,"count":%d}]}
+                    """.formatted(email, menuIds.get(random.nextInt(menuIds.size())), 1 + random.nextInt(3)));
+            case ORDER_HISTORY -> json("/api/order/list", """
+                    {"email":"%s"}
+                    """.formatted(email));
+            case IMAGE_UPLOAD -> multipartImage();
+        };
+    }
+
+    private HttpRequest json(String path, String body) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpRequest multipartImage() {
+        String boundary = "perf-boundary";
+        byte[] head = ("--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"perf.png\"\r\n"
+                + "Content-Type: image/png\r\n\r\n").getBytes(StandardCharsets.UTF_8);
+        byte[] tail = ("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8);
+
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/api/upload/image"))
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(HttpRequest.BodyPublishers.ofByteArrays(List.of(head, image, tail)))
+                .build();
+    }
+
+    private void report(int durationSeconds, Path outputDir) throws IOException {
+        Files.createDirectories(outputDir);
+
+        System.out.printf("%-24s %10s %8s %10s %10s %10s %10s%n", "endpoint", "requests", "errors", "rps", "p50(ms)", "p99(ms)", "max(ms)");
+        for (Endpoint endpoint : Endpoint.values()) {
+            Histogram histogram = histograms.get(endpoint);
+            System.out.printf("%-24s %10d %8d %10.1f %10.2f %10.2f %10.2f%n",
+                    endpoint.label,
+                    histogram.getTotalCount(),
+                    errors.get(endpoint).get(),
+                    histogram.getTotalCount() / (double) durationSeconds,
+                    histogram.getValueAtPercentile(50) / 1000.0,
+                    histogram.getValueAtPercentile(99) / 1000.0,
+                    histogram.getMaxValue() / 1000.0);
+
+            try (PrintStream out = new PrintStream(Files.newOutputStream(outputDir.resolve(endpoint.name().toLowerCase() + ".hgrm")))) {
+                // 밀리초 단위로 출력
+                histogram.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+    }
+
+    // "menu:50,order:20,..." → 비율만큼 엔드포인트를 채운 100칸 표
+    private static Endpoint[] parseMix(String mix) {
+        Map<String, Endpoint> names = Map.of(
+                "menu", Endpoint.MENU_LIST,
+                "order", Endpoint.ORDER_CREATE,
+                "history", Endpoint.ORDER_HISTORY,
+                "upload", Endpoint.IMAGE_UPLOAD
+        );
+
+        List<Endpoint> table = new ArrayList<>();
+        for (String part : mix.split(",")) {
+            String[] pair = part.trim().split(":");
+            Endpoint endpoint = names.get(pair[0]);
+            if (endpoint == null) {
+                throw new IllegalArgumentException("알 수 없는 엔드포인트: " + pair[0]);
+            }
+            for (int i = 0; i < Integer.parseInt(pair[1]); i++) {
+                table.add(endpoint);
+            }
+        }
+        if (table.isEmpty()) {
+            throw new IllegalArgumentException("mix 비율이 비어 있습니다.");
+        }
+        return table.toArray(Endpoint[]::new);
+    }
+
+    private static byte[] sampleImage() throws IOException {
+        BufferedImage image = new BufferedImage(64, 64, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(new Color(0x6F4E37));
+        graphics.fillRect(0, 0, 64, 64);
+        graphics.dispose();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+
+    private static List<Long> fetchMenuIds(HttpClient client, String baseUrl) throws IOException, InterruptedException {
+        String body = client.send(
+                HttpRequest.newBuilder(URI.create(baseUrl + "/api/menu")).GET().build(),
+                HttpResponse.BodyHandlers.ofString()
+        ).body();
+
+        List<Long> ids = new ArrayList<>();
+        Matcher matcher = MENU_ID.matcher(body);
+        while (matcher.find()) {
+            ids.add(Long.parseLong(matcher.group(1)));
+        }
+        if (ids.isEmpty()) {
+            throw new IllegalStateException("메뉴가 없습니다. perf 데이터가 들어간 서버인지 확인하세요.");
+        }
+        return ids;
+    }
+
+    private static Map<String, String> parseArgs(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int idx = arg.indexOf('=');
+            if (arg.startsWith("--") && idx > 0) {
+                options.put(arg.substring(2, idx), arg.substring(idx + 1));
+            }
+        }
+        return options;
+    }
+}
@@ -0,0 +1,190 @@
+package com.back.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 플랫폼 스레드 / 가상 스레드 모드 비교용 부하 테스트 (closed-loop)
+//
+// 1. 서버를 한 모드로 띄운다
+//      ./gradlew bootRun                                              (플랫폼 스레드)
+//      ./gradlew bootRun --args='--spring.profiles.active=dev,virtual' (가상 스레드)
+// 2. ./gradlew threadModeLoadTest -Plabel=platform   (또는 -Plabel=virtual)
+// 3. 결과는 콘솔과 build/loadtest/thread-mode.csv 에 누적되므로 두 모드의 행을 비교한다
+//
+// 옵션(-P): baseUrl, label, concurrency, warmupSeconds, durationSeconds, seed
+public class ThreadModeLoadTest {
+
+    private static final Pattern MENU_ID = Pattern.compile("\"menu_id\"\\s*:\\s*(\\d+)");
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseArgs(args);
+        String baseUrl = options.getOrDefault("baseUrl", "http://localhost:8080");
+        String label = options.getOrDefault("label", "unlabeled");
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "200"));
+        int warmupSeconds = Integer.parseInt(options.getOrDefault("warmupSeconds", "10"));
+        int durationSeconds = Integer.parseInt(options.getOrDefault("durationSeconds", "30"));
+        long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        List<Long> menuIds = fetchMenuIds(client, baseUrl);
+        if (menuIds.isEmpty()) {
+            throw new IllegalStateException("메뉴가 없습니다. 먼저 메뉴를 등록하세요.");
+        }
+
+        System.out.printf("warmup %ds (concurrency=%d)%n", warmupSeconds, concurrency);
+        run(client, baseUrl, menuIds, concurrency, warmupSeconds, seed);
+
+        System.out.printf("measure %ds%n", durationSeconds);
+        Map<String, Recorder> results = run(client, baseUrl, menuIds, concurrency, durationSeconds, seed + 1);
+
+        Path csv = Path.of("build", "loadtest", "thread-mode.csv");
+        Files.createDirectories(csv.getParent());
+        if (!Files.exists(csv)) {
+            Files.writeString(csv, "label,endpoint,concurrency,requests,errors,throughput_rps,p50_ms,p99_ms,max_ms\n");
+        }
+
+        for (Map.Entry<String, Recorder> entry : results.entrySet()) {
+            Recorder recorder = entry.getValue();
+            long[] latencies = recorder.sortedLatencies();
+            double throughput = latencies.length / (double) durationSeconds;
+
+            String line = "%s,%s,%d,%d,%d,%.1f,%.2f,%.2f,%.2f".formatted(
+                    label, entry.getKey(), concurrency, latencies.length, recorder.errors.get(), throughput,
+                    percentileMillis(latencies, 0.50), percentileMillis(latencies, 0.99), percentileMillis(latencies, 1.0));
+
+            System.out.println(line);
+            Files.writeString(csv, line + "\n", StandardOpenOption.APPEND);
+        }
+    }
+
+    // 각 가상 유저가 메뉴 조회 / 주문 생성을 번갈아 요청
+    private static Map<String, Recorder> run(
+            HttpClient client, String baseUrl, List<Long> menuIds,
+            int concurrency, int seconds, long seed
+    ) throws InterruptedException {
+        Map<String, Recorder> recorders = Map.of(
+                "GET /api/menu", new Recorder(),
+                "POST /api/order", new Recorder()
+        );
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int user = 0; user < concurrency; user++) {
+                SplittableRandom random = new SplittableRandom(seed * 31 + user);
+                int userId = user;
+
+                users.submit(() -> {
+                    boolean menu = true;
+                    while (System.nanoTime() < deadline) {
+                        HttpRequest request = menu
+                                ? HttpRequest.newBuilder(URI.create(baseUrl + "/api/menu")).GET().build()
+                                : orderRequest(baseUrl, menuIds, userId, random);
+                        send(client, request, recorders.get(menu ? "GET /api/menu" : "POST /api/order"));
+                        menu = !menu;
+                    }
+                });
+            }
+        }
+        return recorders;
+    }
+
+    private static HttpRequest orderRequest(String baseUrl, List<Long> menuIds, int userId, SplittableRandom random) {
+        String body = """
+                {"email":"load%d@test.com","address":"서울시 강남구","postcode":12345,
+                 "items":[{"menuId":%d,"count":%d}]}
+                """.formatted(userId, menuIds.get(random.nextInt(menuIds.size())), 1 + random.nextInt(3));
+
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/api/order"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static void send(HttpClient client, HttpRequest request, Recorder recorder) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            recorder.record(System.nanoTime() - start, response.statusCode() < 400);
+        } catch (IOException e) {
+            recorder.record(System.nanoTime() - start, false);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static List<Long> fetchMenuIds(HttpClient client, String baseUrl) throws IOException, InterruptedException {
+        String body = client.send(
+                HttpRequest.newBuilder(URI.create(baseUrl + "/api/menu")).GET().build(),
+                HttpResponse.BodyHandlers.ofString()
+        ).body();
+
+        List<Long> ids = new ArrayList<>();
+        Matcher matcher = MENU_ID.matcher(body);
+        while (matcher.find()) {
+            ids.add(Long.parseLong(matcher.group(1)));
+        }
+        return ids;
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) return 0;
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private static Map<String, String> parseArgs(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int idx = arg.indexOf('=');
+            if (arg.startsWith("--") && idx > 0) {
+                options.put(arg.substring(2, idx), arg.substring(idx + 1));
+            }
+        }
+        return options;
+    }
+
+    private static class Recorder {
+        private long[] latencies = new long[1 << 16];
+        private int size;
+        private final AtomicLong errors = new AtomicLong();
+
+        synchronized void record(long nanos, boolean success) {
+            if (!success) {
+                errors.incrementAndGet();
+                return;
+            }
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = nanos;
+        }
+
+        synchronized long[] sortedLatencies() {
+            long[] copy = Arrays.copyOf(latencies, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+}
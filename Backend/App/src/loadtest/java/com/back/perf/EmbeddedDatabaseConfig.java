@@ -0,0 +1,55 @@
+package com.back.perf;
+
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import javax.sql.DataSource;
+
+// perf 프로필: 로컬 MySQL 없이 내장 MariaDB(MySQL 호환)를 띄워 애플리케이션을 실행한다
+// 네이티브 쿼리(insert ignore, on duplicate key update, last_insert_id)를 그대로 쓸 수 있어 H2 대신 사용
+@Slf4j
+@Configuration
+@Profile("perf")
+public class EmbeddedDatabaseConfig {
+
+    @Bean(destroyMethod = "stop")
+    public DB embeddedDatabase(
+            @Value("${perf.database.name:shopping_perf}") String databaseName,
+            @Value("${perf.database.port:0}") int port
+    ) throws Exception {
+        DBConfigurationBuilder config = DBConfigurationBuilder.newBuilder();
+        // 0 이면 사용 가능한 포트를 자동으로 고른다
+        config.setPort(port);
+
+        DB db = DB.newEmbeddedDB(config.build());
+        db.start();
+        db.createDB(databaseName);
+
+        log.info("내장 MariaDB 시작: port={}, database={}", db.getConfiguration().getPort(), databaseName);
+        return db;
+    }
+
+    @Bean
+    public DataSource dataSource(
+            DB embeddedDatabase,
+            @Value("${perf.database.name:shopping_perf}") String databaseName,
+            @Value("${spring.datasource.hikari.maximum-pool-size:20}") int maximumPoolSize
+    ) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:mysql://localhost:%d/%s?rewriteBatchedStatements=true"
+                .formatted(embeddedDatabase.getConfiguration().getPort(), databaseName));
+        dataSource.setUsername("root");
+        dataSource.setPassword("");
+        dataSource.setDriverClassName("com.mysql.cj.jdbc.Driver");
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        // application.yml 의 spring.datasource.hikari.auto-commit 과 동일
+        dataSource.setAutoCommit(false);
+        return dataSource;
+    }
+}
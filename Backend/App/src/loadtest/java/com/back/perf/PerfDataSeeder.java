@@ -0,0 +1,23 @@
+package com.back.perf;
+
+import com.back.global.initData.BulkDataSeeder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+// perf 프로필 기동 시 부하 테스트용 데이터를 넣는다 (init-data.bulk.*)
+// 고객 이메일은 BulkDataSeeder.EMAIL_FORMAT 형식이라 부하 생성기가 같은 고객으로 주문/주문 내역 조회를 보낼 수 있다
+@Component
+@Profile("perf")
+@RequiredArgsConstructor
+public class PerfDataSeeder implements ApplicationRunner {
+
+    private final BulkDataSeeder bulkDataSeeder;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        bulkDataSeeder.seed(bulkDataSeeder.configuredPlan());
+    }
+}
@@ -1,5 +1,6 @@
 package com.back.domain.file.controller;
 
+import com.back.domain.file.service.ImageStorageService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -7,14 +8,11 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.io.InputStream;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.UUID;
 
 @Slf4j
 @RestController
@@ -22,68 +20,50 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class FileUploadController {
 
-    @Value("${file.upload-dir:uploads}")
-    private String uploadDir;
+    private final ImageStorageService imageStorageService;
 
     @Value("${server.base-url:http://localhost:8080}")
     private String baseUrl;
 
     @PostMapping("/image")
     public ResponseEntity<?> uploadImage(@RequestParam("file") MultipartFile file) {
-        try {
-            if (file.isEmpty()) {
-                log.warn("빈 파일 업로드 시도");
-                return ResponseEntity.badRequest()
-                        .body(Map.of("message", "파일이 비어있습니다"));
-            }
-
-            String contentType = file.getContentType();
-            if (contentType == null || !contentType.startsWith("image/")) {
-                log.warn("이미지가 아닌 파일 업로드 시도: {}", contentType);
-                return ResponseEntity.badRequest()
-                        .body(Map.of("message", "이미지 파일만 업로드 가능합니다"));
-            }
-
-            long maxSize = 5 * 1024 * 1024; // 5MB
-            if (file.getSize() > maxSize) {
-                log.warn("파일 크기 초과: {} bytes", file.getSize());
-                return ResponseEntity.badRequest()
-                        .body(Map.of("message", "파일 크기는 5MB를 초과할 수 없습니다"));
-            }
-
-            Path uploadPath = Paths.get(uploadDir).isAbsolute()
-                    ? Paths.get(uploadDir)
-                    : Paths.get(System.getProperty("user.dir"), uploadDir);
-            if (!Files.exists(uploadPath)) {
-                Files.createDirectories(uploadPath);
-                log.info("업로드 디렉토리 생성: {}", uploadPath.toAbsolutePath());
-            }
-
-            String originalFilename = file.getOriginalFilename();
-            String extension = "";
-            if (originalFilename != null && originalFilename.contains(".")) {
-                extension = originalFilename.substring(originalFilename.lastIndexOf("."));
-            }
-            String uniqueFilename = UUID.randomUUID().toString() + extension;
-
-            Path filePath = uploadPath.resolve(uniqueFilename);
-            file.transferTo(filePath.toFile());
-            log.info("파일 저장 완료: {}", filePath.toAbsolutePath());
+        if (file.isEmpty()) {
+            log.warn("빈 파일 업로드 시도");
+            return ResponseEntity.badRequest()
+                    .body(Map.of("message", "파일이 비어있습니다"));
+        }
 
-            String imageUrl = baseUrl + "/uploads/" + uniqueFilename;
+        try (InputStream in = file.getInputStream()) {
+            // 형식은 클라이언트 Content-Type 대신 파일 내용(magic bytes)으로 판별
+            ImageStorageService.StoredImage stored = imageStorageService.store(in);
+            String imageUrl = baseUrl + "/uploads/" + stored.filename();
 
-            Map<String, String> response = new HashMap<>();
+            Map<String, Object> response = new HashMap<>();
             response.put("imageUrl", imageUrl);
-            response.put("filename", uniqueFilename);
-            response.put("originalFilename", originalFilename);
+            response.put("filename", stored.filename());
+            response.put("originalFilename", file.getOriginalFilename());
+            response.put("contentType", stored.format().mimeType());
+            response.put("sha256", stored.sha256());
+            response.put("deduplicated", stored.deduplicated());
+            response.put("variants", variantUrls(stored));
 
             log.info("이미지 업로드 성공: {}", imageUrl);
             return ResponseEntity.ok(response);
 
+        } catch (IllegalArgumentException e) {
+            log.warn("이미지 업로드 거부: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(Map.of("message", e.getMessage()));
         } catch (IOException e) {
             log.error("파일 업로드 중 오류 발생", e);
             return ResponseEntity.internalServerError()
                     .body(Map.of("message", "파일 업로드 중 오류가 발생했습니다: " + e.getMessage()));
         }
     }
-}
\ No newline at end of file
+
+    private Map<String, String> variantUrls(ImageStorageService.StoredImage stored) {
+        Map<String, String> urls = new LinkedHashMap<>();
+        stored.variantFilenames().forEach((suffix, filename) -> urls.put(suffix, baseUrl + "/uploads/" + filename));
+        return urls;
+    }
+}
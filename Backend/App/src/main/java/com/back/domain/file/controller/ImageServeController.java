@@ -0,0 +1,250 @@
+package com.back.domain.file.controller;
+
+import com.back.domain.file.service.HotImageCache;
+import com.back.domain.file.service.ImageStorageService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UriUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+
+// 업로드 이미지 제공 (/uploads/**)
+// - 파일명이 내용마다 고유하므로 1년 immutable 캐시 + 파일명 기반 strong ETag
+// - If-None-Match / If-Modified-Since 조건부 요청, 단일 Range 요청(206) 지원
+// - 전송: 핫 캐시에 있으면 메모리에서, Tomcat sendfile 을 쓸 수 있으면 커널 zero-copy, 아니면 FileChannel.transferTo
+@RestController
+@RequiredArgsConstructor
+public class ImageServeController {
+
+    private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    // 이보다 작은 파일은 sendfile 보다 일반 쓰기가 빠르다 (Tomcat 기본 sendfileSize 와 같은 값)
+    private static final long SENDFILE_MIN_SIZE = 48 * 1024;
+
+    private final ImageStorageService imageStorageService;
+    private final HotImageCache hotImageCache;
+
+    private record ByteRange(long start, long end) {
+        long length() {
+            return end - start + 1;
+        }
+    }
+
+    @RequestMapping(value = "/uploads/**", method = {RequestMethod.GET, RequestMethod.HEAD})
+    public void serve(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Path root = imageStorageService.uploadRoot().toAbsolutePath().normalize();
+        Path file = resolve(root, relativePath(request));
+        if (file == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        String relativePath = root.relativize(file).toString().replace('\\', '/');
+
+        HotImageCache.Entry cached = hotImageCache.get(relativePath);
+
+        long size;
+        long lastModified;
+        String etag;
+        if (cached != null) {
+            size = cached.bytes().length;
+            lastModified = cached.lastModified();
+            etag = cached.etag();
+        } else {
+            BasicFileAttributes attributes;
+            try {
+                attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            } catch (NoSuchFileException e) {
+                response.sendError(HttpServletResponse.SC_NOT_FOUND);
+                return;
+            }
+            if (!attributes.isRegularFile()) {
+                response.sendError(HttpServletResponse.SC_NOT_FOUND);
+                return;
+            }
+            size = attributes.size();
+            lastModified = attributes.lastModifiedTime().toMillis() / 1000 * 1000;
+            etag = etag(file);
+        }
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        if (notModified(request, etag, lastModified)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        response.setContentType(MediaTypeFactory.getMediaType(file.getFileName().toString())
+                .orElse(MediaType.APPLICATION_OCTET_STREAM)
+                .toString());
+
+        ByteRange range = null;
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        // 여러 구간 요청은 전체 응답(200)으로 대신한다
+        if (rangeHeader != null && !rangeHeader.contains(",") && ifRangeMatches(request, etag)) {
+            range = parseRange(rangeHeader, size);
+            if (range == null) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+        }
+        if (range == null) {
+            range = new ByteRange(0, size - 1);
+        } else {
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes %d-%d/%d".formatted(range.start(), range.end(), size));
+        }
+        response.setContentLengthLong(size == 0 ? 0 : range.length());
+
+        if (request.getMethod().equals("HEAD") || size == 0) return;
+
+        if (cached != null) {
+            response.getOutputStream().write(cached.bytes(), (int) range.start(), (int) range.length());
+            return;
+        }
+
+        if (hotImageCache.shouldAdmit(relativePath, size)) {
+            byte[] bytes = Files.readAllBytes(file);
+            hotImageCache.put(relativePath, new HotImageCache.Entry(bytes, etag, lastModified));
+            response.getOutputStream().write(bytes, (int) range.start(), (int) range.length());
+            return;
+        }
+
+        if (range.length() >= SENDFILE_MIN_SIZE && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // Tomcat 이 응답 커밋 후 커널 sendfile 로 직접 전송
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, range.start());
+            request.setAttribute(SENDFILE_END, range.end() + 1);
+            return;
+        }
+
+        transfer(file, range, response.getOutputStream());
+    }
+
+    // 파일명이 내용의 SHA-256(축소본은 원본 해시 + 접미사)이라 같은 이름이면 내용도 같다
+    // 파일 수정 시각과 무관하게 ETag 가 유지되어 immutable URL 의 검증자가 바뀌지 않는다
+    private static String etag(Path file) {
+        return "\"" + file.getFileName() + "\"";
+    }
+
+    private static void transfer(Path file, ByteRange range, OutputStream out) throws IOException {
+        WritableByteChannel target = Channels.newChannel(out);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long position = range.start();
+            long remaining = range.length();
+            while (remaining > 0) {
+                long written = channel.transferTo(position, remaining, target);
+                if (written <= 0) break;
+                position += written;
+                remaining -= written;
+            }
+        }
+    }
+
+    private static boolean notModified(HttpServletRequest request, String etag, long lastModified) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            return ifNoneMatch.trim().equals("*") || etagListContains(ifNoneMatch, etag);
+        }
+
+        try {
+            long ifModifiedSince = request.getDateHeader(HttpHeaders.IF_MODIFIED_SINCE);
+            return ifModifiedSince != -1 && lastModified <= ifModifiedSince;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    // If-Range 가 현재 ETag 와 다르면 Range 를 무시하고 전체를 보낸다
+    private static boolean ifRangeMatches(HttpServletRequest request, String etag) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        return ifRange == null || ifRange.trim().equals(etag);
+    }
+
+    private static boolean etagListContains(String header, String etag) {
+        for (String candidate : header.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) value = value.substring(2);
+            if (value.equals(etag)) return true;
+        }
+        return false;
+    }
+
+    // "bytes=start-end", "bytes=start-", "bytes=-suffix" 중 하나, 만족할 수 없으면 null
+    private static ByteRange parseRange(String header, long size) {
+        if (!header.startsWith("bytes=")) return null;
+
+        String spec = header.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) return null;
+
+        try {
+            String startText = spec.substring(0, dash).trim();
+            String endText = spec.substring(dash + 1).trim();
+
+            long start;
+            long end;
+            if (startText.isEmpty()) {
+                long suffix = Long.parseLong(endText);
+                if (suffix <= 0) return null;
+                start = Math.max(0, size - suffix);
+                end = size - 1;
+            } else {
+                start = Long.parseLong(startText);
+                end = endText.isEmpty() ? size - 1 : Math.min(Long.parseLong(endText), size - 1);
+            }
+
+            if (start >= size || start > end) return null;
+            return new ByteRange(start, end);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String relativePath(HttpServletRequest request) {
+        String uri = request.getRequestURI().substring(request.getContextPath().length());
+        return UriUtils.decode(uri.substring("/uploads/".length()), StandardCharsets.UTF_8);
+    }
+
+    // 업로드 디렉토리 밖이나 숨김 파일(임시 파일 등)은 제공하지 않는다
+    // 샤드 도입 전 URL(/uploads/{name})은 ab/cd/{name} 에서 찾는다
+    private static Path resolve(Path root, String relativePath) {
+        if (relativePath.isEmpty()) return null;
+
+        if (relativePath.indexOf('/') < 0) {
+            String sharded = ImageStorageService.shardedPath(relativePath);
+            if (sharded != null) relativePath = sharded;
+        }
+
+        Path file = root.resolve(relativePath).normalize();
+        if (!file.startsWith(root)) return null;
+
+        for (Path part : root.relativize(file)) {
+            if (part.toString().startsWith(".")) return null;
+        }
+        return file;
+    }
+}
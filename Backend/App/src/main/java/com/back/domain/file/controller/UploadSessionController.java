@@ -0,0 +1,101 @@
+package com.back.domain.file.controller;
+
+import com.back.domain.file.dto.UploadSessionDto.CompleteResponse;
+import com.back.domain.file.dto.UploadSessionDto.CreateRequest;
+import com.back.domain.file.dto.UploadSessionDto.SessionResponse;
+import com.back.domain.file.service.ImageStorageService;
+import com.back.domain.file.service.UploadSessionService;
+import com.back.global.rsData.RsData;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Tag(name = "Upload Session API", description = "큰 이미지를 청크 단위로 나눠 올리는 재개 가능한 업로드 API입니다.")
+@RequestMapping("/api/upload/sessions")
+@RestController
+@RequiredArgsConstructor
+public class UploadSessionController {
+    private final UploadSessionService uploadSessionService;
+
+    @Value("${server.base-url:http://localhost:8080}")
+    private String baseUrl;
+
+    @Operation(summary = "업로드 세션 생성", description = "파일 전체 크기와 SHA-256 을 보내면 청크 크기와 청크 개수를 돌려줍니다.")
+    @PostMapping
+    public ResponseEntity<RsData<SessionResponse>> create(@Valid @RequestBody CreateRequest request) throws IOException {
+        return ResponseEntity.status(HttpStatus.CREATED).body(new RsData<>(
+                "201-1",
+                "업로드 세션을 생성하였습니다.",
+                uploadSessionService.create(request)
+        ));
+    }
+
+    @Operation(summary = "업로드 세션 조회", description = "받지 못한 청크 번호를 돌려줍니다. 연결이 끊긴 뒤 이 청크만 다시 보내면 됩니다.")
+    @GetMapping("/{sessionId}")
+    public ResponseEntity<RsData<SessionResponse>> get(@PathVariable String sessionId) {
+        return ResponseEntity.ok(new RsData<>(
+                "200-1",
+                "업로드 세션 상태입니다.",
+                uploadSessionService.get(sessionId)
+        ));
+    }
+
+    @Operation(summary = "청크 업로드", description = "요청 본문(application/octet-stream)을 그대로 청크 위치에 씁니다. 같은 청크를 다시 보내도 됩니다.")
+    @PutMapping("/{sessionId}/chunks/{index}")
+    public ResponseEntity<RsData<SessionResponse>> uploadChunk(
+            @PathVariable String sessionId,
+            @PathVariable int index,
+            HttpServletRequest request
+    ) throws IOException {
+        try (InputStream in = request.getInputStream()) {
+            return ResponseEntity.ok(new RsData<>(
+                    "200-1",
+                    "청크를 저장하였습니다.",
+                    uploadSessionService.writeChunk(sessionId, index, in)
+            ));
+        }
+    }
+
+    @Operation(summary = "업로드 완료", description = "모든 청크를 받았는지와 SHA-256 을 확인한 뒤 이미지로 저장합니다.")
+    @PostMapping("/{sessionId}/complete")
+    public ResponseEntity<RsData<CompleteResponse>> complete(@PathVariable String sessionId) throws IOException {
+        ImageStorageService.StoredImage stored = uploadSessionService.complete(sessionId);
+
+        Map<String, String> variants = new LinkedHashMap<>();
+        stored.variantFilenames().forEach((suffix, filename) -> variants.put(suffix, baseUrl + "/uploads/" + filename));
+
+        return ResponseEntity.ok(new RsData<>(
+                "200-1",
+                "이미지를 저장하였습니다.",
+                new CompleteResponse(
+                        baseUrl + "/uploads/" + stored.filename(),
+                        stored.filename(),
+                        stored.format().mimeType(),
+                        stored.sha256(),
+                        stored.deduplicated(),
+                        variants
+                )
+        ));
+    }
+
+    @Operation(summary = "업로드 취소", description = "세션과 지금까지 받은 청크를 지웁니다.")
+    @DeleteMapping("/{sessionId}")
+    public ResponseEntity<RsData<Void>> abort(@PathVariable String sessionId) throws IOException {
+        uploadSessionService.abort(sessionId);
+        return ResponseEntity.ok(new RsData<>(
+                "200-1",
+                "업로드 세션을 취소하였습니다."
+        ));
+    }
+}
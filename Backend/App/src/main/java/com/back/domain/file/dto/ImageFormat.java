@@ -0,0 +1,53 @@
+package com.back.domain.file.dto;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+// 파일 앞부분(magic bytes)으로 판별한 이미지 형식
+// 클라이언트가 보낸 Content-Type / 확장자는 신뢰하지 않는다
+public enum ImageFormat {
+    JPEG("jpg", "image/jpeg"),
+    PNG("png", "image/png"),
+    GIF("gif", "image/gif"),
+    WEBP("webp", "image/webp");
+
+    // 판별에 필요한 최대 바이트 수
+    public static final int HEADER_LENGTH = 12;
+
+    private static final byte[] JPEG_MAGIC = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF};
+    private static final byte[] PNG_MAGIC = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+    private static final byte[] GIF87_MAGIC = {'G', 'I', 'F', '8', '7', 'a'};
+    private static final byte[] GIF89_MAGIC = {'G', 'I', 'F', '8', '9', 'a'};
+    private static final byte[] RIFF_MAGIC = {'R', 'I', 'F', 'F'};
+    private static final byte[] WEBP_MAGIC = {'W', 'E', 'B', 'P'};
+
+    private final String extension;
+    private final String mimeType;
+
+    ImageFormat(String extension, String mimeType) {
+        this.extension = extension;
+        this.mimeType = mimeType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public String mimeType() {
+        return mimeType;
+    }
+
+    public static Optional<ImageFormat> detect(byte[] header) {
+        if (startsWith(header, 0, JPEG_MAGIC)) return Optional.of(JPEG);
+        if (startsWith(header, 0, PNG_MAGIC)) return Optional.of(PNG);
+        if (startsWith(header, 0, GIF87_MAGIC) || startsWith(header, 0, GIF89_MAGIC)) return Optional.of(GIF);
+        // RIFF <4바이트 크기> WEBP
+        if (startsWith(header, 0, RIFF_MAGIC) && startsWith(header, 8, WEBP_MAGIC)) return Optional.of(WEBP);
+        return Optional.empty();
+    }
+
+    private static boolean startsWith(byte[] header, int offset, byte[] magic) {
+        return header.length >= offset + magic.length
+                && Arrays.equals(header, offset, offset + magic.length, magic, 0, magic.length);
+    }
+}
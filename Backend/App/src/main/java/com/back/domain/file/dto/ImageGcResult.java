@@ -0,0 +1,14 @@
+package com.back.domain.file.dto;
+
+import java.time.LocalDateTime;
+
+// 업로드 이미지 GC 1회 실행 결과
+public record ImageGcResult(
+        int referencedImages,
+        long filesScanned,
+        long filesDeleted,
+        long bytesReclaimed,
+        long elapsedMillis,
+        LocalDateTime startedAt
+) {
+}
@@ -0,0 +1,29 @@
+package com.back.domain.file.dto;
+
+// 업로드 이미지에서 미리 만들어 두는 축소본 (긴 변 기준 최대 픽셀)
+public enum ImageVariant {
+    THUMBNAIL("thumb", 160),
+    CARD("card", 480),
+    DETAIL("detail", 1080);
+
+    private final String suffix;
+    private final int maxSize;
+
+    ImageVariant(String suffix, int maxSize) {
+        this.suffix = suffix;
+        this.maxSize = maxSize;
+    }
+
+    public String suffix() {
+        return suffix;
+    }
+
+    public int maxSize() {
+        return maxSize;
+    }
+
+    // 원본 파일명(확장자 제외) 기준 축소본 파일명: {name}_{suffix}.jpg
+    public String filename(String baseName) {
+        return baseName + "_" + suffix + ".jpg";
+    }
+}
@@ -0,0 +1,45 @@
+package com.back.domain.file.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+public class UploadSessionDto {
+
+    // chunkSize 를 생략하면 서버 기본값을 쓴다
+    public record CreateRequest(
+            @Positive(message = "파일 크기를 입력하세요.")
+            long size,
+            @NotBlank(message = "파일 전체의 SHA-256 을 입력하세요.")
+            @Pattern(regexp = "[0-9a-fA-F]{64}", message = "SHA-256 은 16진수 64자리여야 합니다.")
+            String sha256,
+            Integer chunkSize
+    ) {
+    }
+
+    // missingChunks: 아직 받지 못한 청크 번호 (재개 시 이 청크만 다시 보낸다)
+    public record SessionResponse(
+            String sessionId,
+            long size,
+            int chunkSize,
+            int totalChunks,
+            int receivedChunks,
+            List<Integer> missingChunks,
+            LocalDateTime expiresAt
+    ) {
+    }
+
+    public record CompleteResponse(
+            String imageUrl,
+            String filename,
+            String contentType,
+            String sha256,
+            boolean deduplicated,
+            Map<String, String> variants
+    ) {
+    }
+}
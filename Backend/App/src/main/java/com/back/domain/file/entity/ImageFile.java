@@ -0,0 +1,35 @@
+package com.back.domain.file.entity;
+
+import com.back.global.jpa.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 업로드 이미지 메타데이터 (내용의 SHA-256 으로 식별, 같은 내용은 한 번만 저장)
+@Entity
+@Table(name = "image_file")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImageFile extends BaseEntity {
+
+    @Column(unique = true, nullable = false, length = 64)
+    private String sha256;
+
+    // 업로드 디렉토리 기준 상대 경로
+    @Column(nullable = false)
+    private String filename;
+
+    @Column(nullable = false)
+    private String mimeType;
+
+    private long size;
+
+    // 디코더가 없는 형식(WebP)은 null
+    private Integer width;
+    private Integer height;
+
+    // 마지막으로 업로드(중복 포함)된 시각. ImageGarbageCollector 가 유예 기간 판단에 사용
+    private LocalDateTime lastUsedAt;
+}
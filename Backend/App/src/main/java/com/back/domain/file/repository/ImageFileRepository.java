@@ -0,0 +1,23 @@
+package com.back.domain.file.repository;
+
+import com.back.domain.file.entity.ImageFile;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface ImageFileRepository extends JpaRepository<ImageFile, Long> {
+    Optional<ImageFile> findBySha256(String sha256);
+
+    // 같은 내용이 다시 업로드되었을 때 호출 (파일 수정 시각은 건드리지 않는다)
+    @Transactional
+    @Modifying
+    @Query("update ImageFile i set i.lastUsedAt = :usedAt where i.sha256 = :sha256")
+    int markUsed(@Param("sha256") String sha256, @Param("usedAt") LocalDateTime usedAt);
+}
@@ -0,0 +1,98 @@
+package com.back.domain.file.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.function.Consumer;
+
+// 업로드 디렉토리 정리(GC)/이전 작업 전용 JDBC 조회
+// 커넥션이 auto-commit=false 이므로 쓰기 메서드는 호출하는 쪽 트랜잭션(TransactionTemplate) 안에서 불러야 한다
+@Repository
+public class ImageMaintenanceRepository {
+
+    // MySQL Connector/J 는 fetchSize 가 Integer.MIN_VALUE 일 때 행 단위 스트리밍 결과셋을 사용한다
+    private static final int STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+    private static final int DELETE_BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ImageMaintenanceRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // 메뉴가 참조하는 이미지 URL 을 전체 목록을 메모리에 올리지 않고 한 행씩 넘겨준다
+    public void streamMenuImageUrls(Consumer<String> consumer) {
+        jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement ps = connection.prepareStatement(
+                            "select img_url from menu where img_url is not null",
+                            ResultSet.TYPE_FORWARD_ONLY,
+                            ResultSet.CONCUR_READ_ONLY
+                    );
+                    ps.setFetchSize(STREAMING_FETCH_SIZE);
+                    return ps;
+                },
+                (RowCallbackHandler) rs -> consumer.accept(rs.getString(1))
+        );
+    }
+
+    // since 이후에 업로드(중복 포함)된 이미지의 sha256
+    public void streamRecentlyUsedImages(LocalDateTime since, Consumer<String> consumer) {
+        jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement ps = connection.prepareStatement(
+                            "select sha256 from image_file where last_used_at >= ?",
+                            ResultSet.TYPE_FORWARD_ONLY,
+                            ResultSet.CONCUR_READ_ONLY
+                    );
+                    ps.setFetchSize(STREAMING_FETCH_SIZE);
+                    ps.setTimestamp(1, Timestamp.valueOf(since));
+                    return ps;
+                },
+                (RowCallbackHandler) rs -> consumer.accept(rs.getString(1))
+        );
+    }
+
+    // GC 시작 후 같은 내용이 다시 업로드됐는지 (삭제 직전 재확인용)
+    public boolean isUsedSince(String sha256, LocalDateTime since) {
+        Boolean used = jdbcTemplate.queryForObject(
+                "select exists (select 1 from image_file where sha256 = ? and last_used_at >= ?)",
+                Boolean.class,
+                sha256,
+                Timestamp.valueOf(since)
+        );
+        return Boolean.TRUE.equals(used);
+    }
+
+    // 그사이 다시 업로드된(last_used_at >= since) 행은 지우지 않는다
+    public void deleteImageFiles(Collection<String> sha256s, LocalDateTime since) {
+        if (sha256s.isEmpty()) return;
+
+        Timestamp sinceAt = Timestamp.valueOf(since);
+        jdbcTemplate.batchUpdate(
+                "delete from image_file where sha256 = ? and (last_used_at is null or last_used_at < ?)",
+                new ArrayList<>(sha256s),
+                DELETE_BATCH_SIZE,
+                (ps, sha256) -> {
+                    ps.setString(1, sha256);
+                    ps.setTimestamp(2, sinceAt);
+                }
+        );
+    }
+
+    // 디렉토리를 나누기 전에 기록된 메타데이터 경로({sha256}.{ext})를 ab/cd/{sha256}.{ext} 로 바꾼다
+    public int shardImageFilePaths() {
+        return jdbcTemplate.update("""
+                update image_file
+                set filename = concat(substr(sha256, 1, 2), '/', substr(sha256, 3, 2), '/', filename)
+                where filename not like '%/%'
+                """);
+    }
+}
@@ -0,0 +1,73 @@
+package com.back.domain.file.service;
+
+import com.back.global.cache.BoundedTtlCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 자주 요청되는 이미지의 바이트를 메모리에 보관하는 LRU 캐시 (전체 바이트 수 기준 제한)
+// - 한 번만 요청된 이미지로 캐시가 밀려나지 않도록, 최근에 한 번 요청된 적이 있는 이미지만 적재한다
+// - 업로드 파일은 같은 이름으로 내용이 바뀌지 않으므로 업로드 디렉토리 기준 상대 경로를 키로 쓴다 (삭제 시 evict)
+@Component
+public class HotImageCache {
+
+    public record Entry(byte[] bytes, String etag, long lastModified) {
+    }
+
+    private final long maxBytes;
+    private final long maxEntryBytes;
+
+    // 최근 한 번 요청된 이미지 (두 번째 요청부터 캐시에 적재)
+    private final BoundedTtlCache<String, Boolean> seenOnce;
+
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long totalBytes;
+
+    public HotImageCache(
+            @Value("${file.serve.hot-cache.max-bytes:67108864}") long maxBytes,
+            @Value("${file.serve.hot-cache.max-entry-bytes:1048576}") long maxEntryBytes
+    ) {
+        this.maxBytes = maxBytes;
+        this.maxEntryBytes = maxEntryBytes;
+        this.seenOnce = new BoundedTtlCache<>(10_000, 10 * 60_000);
+    }
+
+    public synchronized Entry get(String key) {
+        return entries.get(key);
+    }
+
+    // 적재 대상이면 true (캐시에 넣을 만큼 작고, 최근에 한 번 요청된 이미지)
+    public boolean shouldAdmit(String key, long size) {
+        if (size > maxEntryBytes || size > maxBytes) return false;
+        if (seenOnce.get(key) != null) return true;
+
+        seenOnce.put(key, Boolean.TRUE);
+        return false;
+    }
+
+    public synchronized void put(String key, Entry entry) {
+        Entry previous = entries.put(key, entry);
+        if (previous != null) totalBytes -= previous.bytes().length;
+        totalBytes += entry.bytes().length;
+
+        Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && eldest.hasNext()) {
+            totalBytes -= eldest.next().getValue().bytes().length;
+            eldest.remove();
+        }
+    }
+
+    // 파일 삭제/이동 시 호출
+    public synchronized void evict(String key) {
+        Entry removed = entries.remove(key);
+        if (removed != null) totalBytes -= removed.bytes().length;
+        seenOnce.remove(key);
+    }
+
+    public synchronized long totalBytes() {
+        return totalBytes;
+    }
+}
@@ -0,0 +1,244 @@
+package com.back.domain.file.service;
+
+import com.back.domain.file.dto.ImageGcResult;
+import com.back.domain.file.dto.ImageVariant;
+import com.back.domain.file.repository.ImageMaintenanceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+// 어떤 메뉴도 참조하지 않는 업로드 이미지(원본 + 축소본)를 지우는 배치
+// 1. menu.img_url 을 스트리밍으로 읽어 참조 중인 이미지 이름(확장자/축소본 접미사 제외) 집합을 만든다
+// 2. 최상위 샤드 디렉토리(ab/)마다 작업을 나눠 병렬로 훑는다
+// 3. 참조되지 않고 유예 기간보다 오래된 파일만 지운다 (업로드 직후 아직 메뉴에 붙지 않은 이미지는 남긴다)
+//    같은 내용이 다시 업로드된 이미지는 파일 수정 시각 대신 image_file.last_used_at 으로 유예 기간을 판단한다
+//    1 의 목록은 시작 시점 기준이므로, 훑는 도중 다시 업로드된 이미지를 지우지 않도록 삭제 직전에 last_used_at 을 다시 확인한다
+// 남은 임시 파일(.tmp/, .variant-*.part)도 유예 기간이 지나면 함께 지운다
+@Slf4j
+@Service
+public class ImageGarbageCollector {
+
+    private static final String TEMP_DIR = ".tmp";
+
+    private final ImageStorageService imageStorageService;
+    private final ImageMaintenanceRepository imageMaintenanceRepository;
+    private final HotImageCache hotImageCache;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration gracePeriod;
+    private final int parallelism;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile ImageGcResult lastResult;
+
+    public ImageGarbageCollector(
+            ImageStorageService imageStorageService,
+            ImageMaintenanceRepository imageMaintenanceRepository,
+            HotImageCache hotImageCache,
+            PlatformTransactionManager transactionManager,
+            @Value("${file.gc.grace-period:24h}") Duration gracePeriod,
+            @Value("${file.gc.parallelism:4}") int parallelism
+    ) {
+        this.imageStorageService = imageStorageService;
+        this.imageMaintenanceRepository = imageMaintenanceRepository;
+        this.hotImageCache = hotImageCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.gracePeriod = gracePeriod;
+        this.parallelism = parallelism;
+    }
+
+    @Scheduled(cron = "${file.gc.cron:0 30 4 * * *}")
+    public void runScheduled() {
+        if (run(Instant.now()).isEmpty()) {
+            log.warn("이전 이미지 GC 가 아직 실행 중이라 이번 실행을 건너뜁니다.");
+        }
+    }
+
+    public Optional<ImageGcResult> getLastResult() {
+        return Optional.ofNullable(lastResult);
+    }
+
+    // 이미 실행 중이면 실행하지 않고 빈 값을 반환
+    public Optional<ImageGcResult> run(Instant now) {
+        if (!running.compareAndSet(false, true)) {
+            return Optional.empty();
+        }
+
+        try {
+            ImageGcResult result = doRun(now);
+            lastResult = result;
+
+            log.info("이미지 GC 완료: 참조 이미지={}, 검사 파일={}, 삭제 파일={}, 회수={} bytes, {}ms",
+                    result.referencedImages(), result.filesScanned(), result.filesDeleted(),
+                    result.bytesReclaimed(), result.elapsedMillis());
+            return Optional.of(result);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private ImageGcResult doRun(Instant now) throws IOException {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long start = System.nanoTime();
+
+        Set<String> referenced = new HashSet<>();
+        imageMaintenanceRepository.streamMenuImageUrls(url -> {
+            String key = imageKey(url.substring(url.lastIndexOf('/') + 1));
+            if (key != null) referenced.add(key);
+        });
+
+        Instant cutoff = now.minus(gracePeriod);
+        LocalDateTime usedSince = LocalDateTime.ofInstant(cutoff, ZoneId.systemDefault());
+        imageMaintenanceRepository.streamRecentlyUsedImages(usedSince, referenced::add);
+
+        Path root = imageStorageService.uploadRoot().toAbsolutePath().normalize();
+        if (!Files.isDirectory(root)) {
+            return new ImageGcResult(referenced.size(), 0, 0, 0, (System.nanoTime() - start) / 1_000_000, startedAt);
+        }
+
+        Sweep sweep = new Sweep(root, referenced, cutoff, usedSince);
+
+        List<Callable<Void>> tasks = new ArrayList<>();
+        try (DirectoryStream<Path> dirs = Files.newDirectoryStream(root, Files::isDirectory)) {
+            for (Path dir : dirs) {
+                boolean temp = dir.getFileName().toString().equals(TEMP_DIR);
+                tasks.add(() -> {
+                    sweep.sweep(dir, temp);
+                    return null;
+                });
+            }
+        }
+
+        AtomicInteger threadNo = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "image-gc-" + threadNo.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            for (Future<Void> future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("이미지 GC 가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("이미지 GC 중 오류가 발생했습니다.", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        transactionTemplate.executeWithoutResult(status ->
+                imageMaintenanceRepository.deleteImageFiles(sweep.deletedOriginals, usedSince));
+
+        return new ImageGcResult(
+                referenced.size(),
+                sweep.scanned.sum(),
+                sweep.deleted.sum(),
+                sweep.reclaimed.sum(),
+                (System.nanoTime() - start) / 1_000_000,
+                startedAt
+        );
+    }
+
+    // 파일명에서 확장자와 축소본 접미사를 뗀 이름 (원본/축소본이 같은 값을 가진다)
+    static String imageKey(String filename) {
+        int dot = filename.lastIndexOf('.');
+        if (dot <= 0) return null;
+
+        String base = filename.substring(0, dot);
+        for (ImageVariant variant : ImageVariant.values()) {
+            String suffix = "_" + variant.suffix();
+            if (base.endsWith(suffix)) return base.substring(0, base.length() - suffix.length());
+        }
+        return base;
+    }
+
+    // 샤드 디렉토리 하나를 훑는 작업. 여러 워커가 동시에 쓰므로 집계는 LongAdder / concurrent set
+    private class Sweep {
+        private final Path root;
+        private final Set<String> referenced;
+        private final Instant cutoff;
+        private final LocalDateTime usedSince;
+
+        private final LongAdder scanned = new LongAdder();
+        private final LongAdder deleted = new LongAdder();
+        private final LongAdder reclaimed = new LongAdder();
+        private final Set<String> deletedOriginals = ConcurrentHashMap.newKeySet();
+
+        Sweep(Path root, Set<String> referenced, Instant cutoff, LocalDateTime usedSince) {
+            this.root = root;
+            this.referenced = referenced;
+            this.cutoff = cutoff;
+            this.usedSince = usedSince;
+        }
+
+        void sweep(Path dir, boolean temp) throws IOException {
+            try (Stream<Path> files = Files.walk(dir)) {
+                files.forEach(file -> {
+                    try {
+                        visit(file, temp);
+                    } catch (IOException e) {
+                        log.warn("이미지 GC 중 파일 처리 실패: {}", file, e);
+                    }
+                });
+            }
+        }
+
+        private void visit(Path file, boolean temp) throws IOException {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            if (!attributes.isRegularFile()) return;
+            scanned.increment();
+
+            if (!attributes.lastModifiedTime().toInstant().isBefore(cutoff)) return;
+
+            String filename = file.getFileName().toString();
+            String key = imageKey(filename);
+            boolean garbage = temp || filename.startsWith(".") || key == null || !referenced.contains(key);
+            if (!garbage) return;
+
+            // 시작 후 같은 내용이 다시 업로드되어 이미 그 URL 을 돌려줬으면 남긴다
+            if (!temp && key != null && imageMaintenanceRepository.isUsedSince(key, usedSince)) return;
+            if (!Files.deleteIfExists(file)) return;
+
+            deleted.increment();
+            reclaimed.add(attributes.size());
+            hotImageCache.evict(root.relativize(file).toString().replace('\\', '/'));
+
+            // 원본(축소본 접미사 없음)이면 메타데이터도 지운다
+            if (!temp && key != null && filename.lastIndexOf('.') == key.length()) {
+                deletedOriginals.add(key);
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.back.domain.file.service;
+
+import com.back.domain.file.repository.ImageMaintenanceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// 시작 시 업로드 디렉토리 최상위에 바로 놓인 파일(샤드 도입 전 업로드)을 ab/cd/ 하위로 옮긴다
+// - 같은 파일시스템 안의 rename 이라 파일 내용은 복사하지 않는다
+// - 기존 URL(/uploads/{name})은 ImageServeController 가 샤드 경로로 찾아 주므로 menu.img_url 은 그대로 둔다
+// - 이미 옮긴 파일은 건너뛰므로 여러 번 실행해도 결과가 같다
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "file.layout-migration.enabled", havingValue = "true", matchIfMissing = true)
+public class ImageLayoutMigrator implements ApplicationRunner {
+
+    private final ImageStorageService imageStorageService;
+    private final ImageMaintenanceRepository imageMaintenanceRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public ImageLayoutMigrator(
+            ImageStorageService imageStorageService,
+            ImageMaintenanceRepository imageMaintenanceRepository,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.imageStorageService = imageStorageService;
+        this.imageMaintenanceRepository = imageMaintenanceRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        Path root = imageStorageService.uploadRoot();
+        if (!Files.isDirectory(root)) return;
+
+        long moved = 0;
+        long skipped = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(root, Files::isRegularFile)) {
+            for (Path file : files) {
+                String filename = file.getFileName().toString();
+                String sharded = filename.startsWith(".") ? null : ImageStorageService.shardedPath(filename);
+                if (sharded == null) {
+                    skipped++;
+                    continue;
+                }
+
+                Path target = root.resolve(sharded);
+                if (Files.exists(target)) {
+                    Files.delete(file);
+                } else {
+                    ImageStorageService.moveAtomically(file, target);
+                }
+                moved++;
+            }
+        }
+
+        int updated = transactionTemplate.execute(status -> imageMaintenanceRepository.shardImageFilePaths());
+        if (moved > 0 || skipped > 0 || updated > 0) {
+            log.info("업로드 디렉토리 샤드 이전 완료: 이동={}, 건너뜀={}, 메타데이터 갱신={}", moved, skipped, updated);
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.back.domain.file.service;
+
+import com.back.domain.file.dto.ImageFormat;
+import com.back.domain.file.dto.ImageVariant;
+import com.back.domain.file.entity.ImageFile;
+import com.back.domain.file.repository.ImageFileRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 업로드 이미지 저장 (내용 주소 기반)
+// 1. 업로드 디렉토리 아래 임시 파일로 NIO 채널 복사하면서 SHA-256 계산 (전체를 메모리에 올리지 않음)
+// 2. 파일 앞부분 magic bytes 로 실제 이미지 형식 확인
+// 3. 파일은 {sha256 앞 2자리}/{다음 2자리}/{sha256}.{ext} 에 둔다 (한 디렉토리에 파일이 몰리지 않도록)
+//    같은 내용이 이미 있으면 임시 파일을 버리고 기존 파일/URL 을 그대로 돌려준다
+// 4. 새 파일은 최종 위치로 atomic move (다른 요청이 쓰다 만 파일을 보지 않도록) 후 메타데이터 기록
+// 5. 축소본 생성은 ImageVariantService 의 백그라운드 워커에 넘긴다
+@Slf4j
+@Service
+public class ImageStorageService {
+
+    private static final String TEMP_DIR = ".tmp";
+    private static final long CHUNK_SIZE = 256 * 1024;
+
+    private final Path uploadRoot;
+    private final long maxFileSize;
+    private final ImageVariantService imageVariantService;
+    private final ImageFileRepository imageFileRepository;
+
+    public ImageStorageService(
+            @Value("${file.upload-dir:uploads}") String uploadDir,
+            @Value("${file.max-file-size-bytes:5242880}") long maxFileSize,
+            ImageVariantService imageVariantService,
+            ImageFileRepository imageFileRepository
+    ) {
+        this.uploadRoot = Paths.get(uploadDir).isAbsolute()
+                ? Paths.get(uploadDir)
+                : Paths.get(System.getProperty("user.dir"), uploadDir);
+        this.maxFileSize = maxFileSize;
+        this.imageVariantService = imageVariantService;
+        this.imageFileRepository = imageFileRepository;
+    }
+
+    // filename: 업로드 디렉토리 기준 상대 경로 (ab/cd/{sha256}.{ext})
+    // deduplicated: 같은 내용의 파일이 이미 있어 새로 저장하지 않음
+    public record StoredImage(String filename, ImageFormat format, long size, String sha256, boolean deduplicated) {
+
+        // 축소본 접미사 → 상대 경로. 축소본은 백그라운드에서 생성되므로 저장 직후에는 아직 없을 수 있다 (WebP 원본은 축소본 없음)
+        public Map<String, String> variantFilenames() {
+            Map<String, String> filenames = new LinkedHashMap<>();
+            if (format == ImageFormat.WEBP) return filenames;
+
+            String baseName = filename.substring(0, filename.lastIndexOf('.'));
+            for (ImageVariant variant : ImageVariant.values()) {
+                filenames.put(variant.suffix(), variant.filename(baseName));
+            }
+            return filenames;
+        }
+    }
+
+    public Path uploadRoot() {
+        return uploadRoot;
+    }
+
+    // 파일명 앞 4자리(16진수)로 나눈 2단계 하위 디렉토리 경로. 나눌 수 없는 이름이면 null
+    public static String shardedPath(String filename) {
+        if (filename.length() <= 4) return null;
+        for (int i = 0; i < 4; i++) {
+            if (!HexFormat.isHexDigit(filename.charAt(i))) return null;
+        }
+        return filename.substring(0, 2) + "/" + filename.substring(2, 4) + "/" + filename;
+    }
+
+    public StoredImage store(InputStream in) throws IOException {
+        Path temp = Files.createTempFile(tempDir(), "upload-", ".part");
+
+        try {
+            MessageDigest digest = sha256();
+            long size = copy(new DigestInputStream(in, digest), temp);
+            return commit(temp, HexFormat.of().formatHex(digest.digest()), size);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    // 업로드 디렉토리 아래 임시 파일 위치 (최종 위치와 같은 파일시스템이라 atomic move 가 가능)
+    public Path tempDir() throws IOException {
+        return Files.createDirectories(uploadRoot.resolve(TEMP_DIR));
+    }
+
+    // 다 받은 임시 파일(tempDir 아래)을 형식 확인 후 최종 위치로 옮긴다. 같은 내용이 이미 있으면 temp 는 그대로 남는다
+    public StoredImage commit(Path temp, String sha256, long size) throws IOException {
+        ImageFormat format = detectFormat(temp);
+
+        String filename = shardedPath(sha256 + "." + format.extension());
+        Path target = uploadRoot.resolve(filename);
+
+        boolean deduplicated = Files.exists(target);
+        if (deduplicated) {
+            log.info("같은 내용의 파일이 이미 있음: {} ({} bytes)", filename, size);
+            recordMetadata(sha256, filename, format, size, target);
+
+            // 사용 기록 전에 GC 가 지웠으면 받은 파일로 다시 채운다
+            if (Files.exists(target)) {
+                // 이전 업로드의 축소본 생성이 대기열 초과/실패로 빠졌으면 응답에 담는 URL 이 404 가 되므로 다시 맡긴다
+                if (variantsMissing(target, sha256, format)) {
+                    imageVariantService.submit(target, sha256, format);
+                }
+                return new StoredImage(filename, format, size, sha256, true);
+            }
+            log.info("중복 파일이 그사이 정리되어 다시 저장: {}", filename);
+        }
+
+        moveAtomically(temp, target);
+        log.info("파일 저장 완료: {} ({} bytes, {})", filename, size, format);
+        imageVariantService.submit(target, sha256, format);
+
+        recordMetadata(sha256, filename, format, size, target);
+        return new StoredImage(filename, format, size, sha256, false);
+    }
+
+    private static boolean variantsMissing(Path original, String baseName, ImageFormat format) {
+        if (format == ImageFormat.WEBP) return false;
+
+        Path dir = original.getParent();
+        for (ImageVariant variant : ImageVariant.values()) {
+            if (!Files.exists(dir.resolve(variant.filename(baseName)))) return true;
+        }
+        return false;
+    }
+
+    // 파일은 있지만 메타데이터가 없는 경우(이전 버전 업로드 등)도 여기서 채운다
+    // 이미 있으면 lastUsedAt 만 갱신해 ImageGarbageCollector 가 유예 기간 동안 지우지 않게 한다
+    private void recordMetadata(String sha256, String filename, ImageFormat format, long size, Path file) {
+        LocalDateTime now = LocalDateTime.now();
+        if (imageFileRepository.markUsed(sha256, now) > 0) return;
+
+        int[] dimensions = readDimensions(file);
+        try {
+            imageFileRepository.save(new ImageFile(
+                    sha256, filename, format.mimeType(), size,
+                    dimensions == null ? null : dimensions[0],
+                    dimensions == null ? null : dimensions[1],
+                    now
+            ));
+        } catch (DataIntegrityViolationException e) {
+            // 같은 내용이 동시에 업로드되어 다른 요청이 먼저 기록함
+            log.debug("이미지 메타데이터 중복 기록 무시: {}", sha256);
+        }
+    }
+
+    // 전체를 디코딩하지 않고 헤더에서 가로/세로만 읽는다. 읽을 수 없는 형식이면 null
+    private static int[] readDimensions(Path file) {
+        try (ImageInputStream in = ImageIO.createImageInputStream(file.toFile())) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) return null;
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                return new int[]{reader.getWidth(0), reader.getHeight(0)};
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            log.warn("이미지 크기 확인 실패: {}", file.getFileName(), e);
+            return null;
+        }
+    }
+
+    static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private long copy(InputStream in, Path target) throws IOException {
+        try (ReadableByteChannel source = Channels.newChannel(in);
+             FileChannel out = FileChannel.open(target, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long position = 0;
+            while (true) {
+                long transferred = out.transferFrom(source, position, CHUNK_SIZE);
+                if (transferred <= 0) break;
+
+                position += transferred;
+                if (position > maxFileSize) {
+                    throw new IllegalArgumentException("파일 크기는 %dMB를 초과할 수 없습니다".formatted(maxFileSize / 1024 / 1024));
+                }
+            }
+            if (position == 0) {
+                throw new IllegalArgumentException("파일이 비어있습니다");
+            }
+            return position;
+        }
+    }
+
+    private static ImageFormat detectFormat(Path file) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(ImageFormat.HEADER_LENGTH);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (header.hasRemaining() && channel.read(header) > 0) {
+                // 헤더 길이만큼 채운다
+            }
+        }
+
+        byte[] bytes = new byte[header.position()];
+        header.flip().get(bytes);
+        return ImageFormat.detect(bytes)
+                .orElseThrow(() -> new IllegalArgumentException("이미지 파일만 업로드 가능합니다"));
+    }
+
+    static void moveAtomically(Path source, Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
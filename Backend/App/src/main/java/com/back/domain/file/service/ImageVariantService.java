@@ -0,0 +1,204 @@
+package com.back.domain.file.service;
+
+import com.back.domain.file.dto.ImageFormat;
+import com.back.domain.file.dto.ImageVariant;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 업로드 이미지의 축소본(썸네일/카드/상세)을 백그라운드에서 JPEG 으로 생성
+// - 워커 수와 대기열 크기가 고정된 풀을 사용하고, 대기열이 가득 차면 축소본 생성을 건너뛴다 (원본은 그대로 제공)
+// - JDK ImageIO 에는 WebP 인코더/디코더가 없으므로 축소본은 JPEG 만 만들고, WebP 원본은 축소하지 않는다
+@Slf4j
+@Service
+public class ImageVariantService {
+
+    // 디코딩 전에 크기를 확인해 압축 폭탄 이미지를 거른다
+    // 메모리는 아래 subsampling 으로 제한되지만, 디코더는 원본 픽셀을 모두 풀어야 하므로 CPU 시간을 제한하는 용도
+    private static final long MAX_PIXELS = 25_000_000L;
+
+    // 가장 큰 축소본의 긴 변. 원본은 긴 변이 이 값 이상으로 남는 만큼만 건너뛰며 읽는다
+    private static final int LARGEST_VARIANT = Arrays.stream(ImageVariant.values())
+            .mapToInt(ImageVariant::maxSize)
+            .max()
+            .orElseThrow();
+
+    private final ThreadPoolExecutor executor;
+    private final float jpegQuality;
+
+    // 생성 대기/진행 중인 원본. 중복 업로드가 같은 작업을 대기열에 여러 번 넣지 않게 한다
+    private final Set<Path> pending = ConcurrentHashMap.newKeySet();
+
+    public ImageVariantService(
+            @Value("${file.variants.workers:2}") int workers,
+            @Value("${file.variants.queue-capacity:100}") int queueCapacity,
+            @Value("${file.variants.jpeg-quality:0.82}") float jpegQuality
+    ) {
+        AtomicInteger threadNo = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                workers, workers,
+                0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-variant-" + threadNo.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+        );
+        this.jpegQuality = jpegQuality;
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    public void submit(Path original, String baseName, ImageFormat format) {
+        if (format == ImageFormat.WEBP) return;
+        if (!pending.add(original)) return;
+
+        try {
+            executor.execute(() -> {
+                try {
+                    createVariants(original, baseName);
+                } finally {
+                    pending.remove(original);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pending.remove(original);
+            log.warn("축소본 생성 대기열이 가득 차 건너뜀: {}", original.getFileName());
+        }
+    }
+
+    private void createVariants(Path original, String baseName) {
+        try {
+            BufferedImage source = read(original);
+            if (source == null) return;
+
+            Path dir = original.getParent();
+            for (ImageVariant variant : ImageVariant.values()) {
+                BufferedImage resized = resize(source, variant.maxSize());
+                writeJpeg(resized, dir.resolve(variant.filename(baseName)));
+            }
+            log.info("축소본 생성 완료: {}", original.getFileName());
+        } catch (IOException | RuntimeException e) {
+            log.warn("축소본 생성 실패: {}", original.getFileName(), e);
+        }
+    }
+
+    private static BufferedImage read(Path file) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(file.toFile())) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                log.warn("읽을 수 없는 이미지 형식: {}", file.getFileName());
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                long pixels = (long) width * height;
+                if (pixels > MAX_PIXELS) {
+                    log.warn("이미지 해상도가 너무 커 축소본을 만들지 않음: {} ({} px)", file.getFileName(), pixels);
+                    return null;
+                }
+
+                // 원본 전체를 메모리에 올리지 않고 n 픽셀마다 하나씩만 디코딩한다
+                // (디코딩 결과의 긴 변은 LARGEST_VARIANT ~ 2 * LARGEST_VARIANT 사이로 남아 화질 손실이 없다)
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, Math.max(width, height) / LARGEST_VARIANT);
+                if (subsampling > 1) {
+                    param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                }
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 긴 변이 maxSize 가 되도록 축소 (확대는 하지 않음). 큰 비율로 줄일 때는 절반씩 나눠 줄여 계단 현상을 줄인다
+    private static BufferedImage resize(BufferedImage source, int maxSize) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double scale = Math.min(1.0, (double) maxSize / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        BufferedImage current = source;
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            current = draw(current, width, height);
+        } while (width != targetWidth || height != targetHeight);
+
+        return current;
+    }
+
+    // JPEG 은 알파 채널이 없으므로 흰 배경 위에 그린다
+    private static BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private void writeJpeg(BufferedImage image, Path target) throws IOException {
+        Path temp = Files.createTempFile(target.getParent(), ".variant-", ".part");
+        try {
+            ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+            try (ImageOutputStream out = ImageIO.createImageOutputStream(temp.toFile())) {
+                ImageWriteParam param = writer.getDefaultWriteParam();
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(jpegQuality);
+                param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+
+                writer.setOutput(out);
+                writer.write(null, new IIOImage(image, null, null), param);
+            } finally {
+                writer.dispose();
+            }
+            ImageStorageService.moveAtomically(temp, target);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
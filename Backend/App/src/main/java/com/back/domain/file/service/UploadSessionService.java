@@ -0,0 +1,312 @@
+package com.back.domain.file.service;
+
+import com.back.domain.file.dto.UploadSessionDto.CreateRequest;
+import com.back.domain.file.dto.UploadSessionDto.SessionResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 큰 이미지를 여러 요청으로 나눠 받는 재개 가능한 업로드 세션
+// 1. 세션 생성: 전체 크기/SHA-256 을 받아 임시 파일(.tmp/sessions/{id}.part) 을 만든다
+// 2. 청크 업로드: 요청 본문을 청크 위치(index * chunkSize)에 positional write 로 바로 쓴다
+//    - 청크 순서와 무관하고, 같은 청크를 다시 보내면 같은 자리에 덮어쓰므로 재시도가 안전하다
+//    - 청크마다 요청이 짧게 끝나므로 느린 연결이 요청 스레드를 오래 잡고 있지 않는다
+// 3. 완료: 모든 청크를 받았는지 확인하고 파일 전체 SHA-256 을 검증한 뒤 ImageStorageService 로 넘긴다
+// 세션은 메모리에만 두므로 서버가 재시작되면 사라진다 (남은 임시 파일은 ImageGarbageCollector 가 정리)
+@Slf4j
+@Service
+public class UploadSessionService {
+
+    private static final String SESSION_DIR = "sessions";
+    private static final int MIN_CHUNK_SIZE = 64 * 1024;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ImageStorageService imageStorageService;
+    private final long maxFileSize;
+    private final int defaultChunkSize;
+    private final int maxChunkSize;
+    private final Duration ttl;
+    private final int maxSessions;
+
+    private final ConcurrentHashMap<String, UploadSession> sessions = new ConcurrentHashMap<>();
+    // 세션 수 제한용 자리 예약 카운터 (size() 확인 후 put 하면 동시 생성 시 제한을 넘을 수 있다)
+    private final AtomicInteger reservedSessions = new AtomicInteger();
+
+    public UploadSessionService(
+            ImageStorageService imageStorageService,
+            @Value("${file.upload-session.max-file-size-bytes:52428800}") long maxFileSize,
+            @Value("${file.upload-session.chunk-size:1048576}") int defaultChunkSize,
+            @Value("${file.upload-session.max-chunk-size:8388608}") int maxChunkSize,
+            @Value("${file.upload-session.ttl:30m}") Duration ttl,
+            @Value("${file.upload-session.max-sessions:100}") int maxSessions
+    ) {
+        this.imageStorageService = imageStorageService;
+        this.maxFileSize = maxFileSize;
+        this.defaultChunkSize = defaultChunkSize;
+        this.maxChunkSize = maxChunkSize;
+        this.ttl = ttl;
+        this.maxSessions = maxSessions;
+    }
+
+    // 청크 쓰기는 read lock 으로 동시에, 완료/취소/만료 정리는 write lock 으로 혼자 수행한다
+    private static class UploadSession {
+        private final String id;
+        private final long size;
+        private final int chunkSize;
+        private final int totalChunks;
+        private final String sha256;
+        private final Path file;
+
+        private final BitSet received;
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private volatile long expiresAtMillis;
+        private boolean closed;
+
+        UploadSession(String id, long size, int chunkSize, String sha256, Path file, long expiresAtMillis) {
+            this.id = id;
+            this.size = size;
+            this.chunkSize = chunkSize;
+            this.totalChunks = (int) ((size + chunkSize - 1) / chunkSize);
+            this.sha256 = sha256;
+            this.file = file;
+            this.received = new BitSet(totalChunks);
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        long chunkLength(int index) {
+            return index == totalChunks - 1 ? size - (long) index * chunkSize : chunkSize;
+        }
+
+        synchronized void markReceived(int index) {
+            received.set(index);
+        }
+
+        synchronized void clearReceived(int index) {
+            received.clear(index);
+        }
+
+        synchronized int receivedCount() {
+            return received.cardinality();
+        }
+
+        synchronized List<Integer> missing() {
+            List<Integer> missing = new ArrayList<>();
+            for (int i = received.nextClearBit(0); i < totalChunks; i = received.nextClearBit(i + 1)) {
+                missing.add(i);
+            }
+            return missing;
+        }
+    }
+
+    public SessionResponse create(CreateRequest request) throws IOException {
+        if (request.size() > maxFileSize) {
+            throw new IllegalArgumentException("파일 크기는 %dMB를 초과할 수 없습니다".formatted(maxFileSize / 1024 / 1024));
+        }
+
+        int chunkSize = request.chunkSize() != null ? request.chunkSize() : defaultChunkSize;
+        if (chunkSize < MIN_CHUNK_SIZE || chunkSize > maxChunkSize) {
+            throw new IllegalArgumentException("청크 크기는 %dKB ~ %dKB 여야 합니다".formatted(MIN_CHUNK_SIZE / 1024, maxChunkSize / 1024));
+        }
+
+        if (reservedSessions.incrementAndGet() > maxSessions) {
+            reservedSessions.decrementAndGet();
+            throw new RejectedExecutionException("진행 중인 업로드가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        UploadSession session;
+        try {
+            String id = UUID.randomUUID().toString();
+            Path dir = Files.createDirectories(imageStorageService.tempDir().resolve(SESSION_DIR));
+            Path file = Files.createFile(dir.resolve(id + ".part"));
+
+            session = new UploadSession(
+                    id, request.size(), chunkSize, request.sha256().toLowerCase(), file, expiresAt());
+            sessions.put(id, session);
+        } catch (IOException | RuntimeException e) {
+            reservedSessions.decrementAndGet();
+            throw e;
+        }
+
+        log.info("업로드 세션 생성: {} ({} bytes, 청크 {}개)", session.id, session.size, session.totalChunks);
+        return toResponse(session);
+    }
+
+    public SessionResponse get(String id) {
+        return toResponse(find(id));
+    }
+
+    public SessionResponse writeChunk(String id, int index, InputStream in) throws IOException {
+        UploadSession session = find(id);
+        if (index < 0 || index >= session.totalChunks) {
+            throw new IllegalArgumentException("청크 번호는 0 ~ %d 여야 합니다".formatted(session.totalChunks - 1));
+        }
+
+        long expected = session.chunkLength(index);
+        long position = (long) index * session.chunkSize;
+
+        session.lock.readLock().lock();
+        try {
+            if (session.closed) throw new NoSuchElementException(id);
+
+            // 이미 받은 청크를 다시 쓰다 끊기면 내용이 일부만 덮어써지므로, 쓰기 전에 받지 않은 상태로 돌리고
+            // 정확히 expected 바이트를 쓴 뒤에만 다시 받은 것으로 표시한다
+            session.clearReceived(index);
+
+            long written = 0;
+            try (ReadableByteChannel source = Channels.newChannel(in);
+                 FileChannel channel = FileChannel.open(session.file, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+                while (source.read(buffer) >= 0) {
+                    buffer.flip();
+                    if (written + buffer.remaining() > expected) {
+                        throw new IllegalArgumentException("청크 %d 의 크기는 %d bytes 여야 합니다".formatted(index, expected));
+                    }
+                    while (buffer.hasRemaining()) {
+                        written += channel.write(buffer, position + written);
+                    }
+                    buffer.clear();
+                }
+            }
+            if (written != expected) {
+                throw new IllegalArgumentException("청크 %d 의 크기는 %d bytes 여야 합니다".formatted(index, expected));
+            }
+
+            session.markReceived(index);
+            session.expiresAtMillis = expiresAt();
+        } finally {
+            session.lock.readLock().unlock();
+        }
+        return toResponse(session);
+    }
+
+    // 검증에 실패하면(청크 누락 제외) 세션을 지우므로 처음부터 다시 올려야 한다
+    public ImageStorageService.StoredImage complete(String id) throws IOException {
+        UploadSession session = find(id);
+
+        session.lock.writeLock().lock();
+        try {
+            if (session.closed) throw new NoSuchElementException(id);
+
+            List<Integer> missing = session.missing();
+            if (!missing.isEmpty()) {
+                throw new IllegalArgumentException("받지 못한 청크가 있습니다: " + missing);
+            }
+
+            try {
+                String actual = digest(session.file);
+                if (!actual.equals(session.sha256)) {
+                    throw new IllegalArgumentException("파일 체크섬이 일치하지 않습니다");
+                }
+                ImageStorageService.StoredImage stored = imageStorageService.commit(session.file, actual, session.size);
+                log.info("업로드 세션 완료: {} → {}", id, stored.filename());
+                return stored;
+            } finally {
+                close(session);
+            }
+        } finally {
+            session.lock.writeLock().unlock();
+        }
+    }
+
+    public void abort(String id) throws IOException {
+        UploadSession session = find(id);
+
+        session.lock.writeLock().lock();
+        try {
+            close(session);
+        } finally {
+            session.lock.writeLock().unlock();
+        }
+    }
+
+    // 청크 쓰기 중인 세션은 건너뛰고 다음 정리 때 다시 본다
+    @Scheduled(fixedDelayString = "${file.upload-session.cleanup-interval-ms:60000}")
+    public void removeExpired() {
+        long now = System.currentTimeMillis();
+        for (UploadSession session : sessions.values()) {
+            if (session.expiresAtMillis > now || !session.lock.writeLock().tryLock()) continue;
+
+            try {
+                close(session);
+                log.info("만료된 업로드 세션 정리: {} ({}/{} 청크)", session.id, session.receivedCount(), session.totalChunks);
+            } catch (IOException e) {
+                log.warn("만료된 업로드 세션 파일 삭제 실패: {}", session.file, e);
+            } finally {
+                session.lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private UploadSession find(String id) {
+        UploadSession session = sessions.get(id);
+        if (session == null || session.expiresAtMillis <= System.currentTimeMillis()) {
+            throw new NoSuchElementException(id);
+        }
+        return session;
+    }
+
+    // write lock 을 잡은 상태에서 호출
+    private void close(UploadSession session) throws IOException {
+        session.closed = true;
+        if (sessions.remove(session.id, session)) {
+            reservedSessions.decrementAndGet();
+        }
+        Files.deleteIfExists(session.file);
+    }
+
+    private long expiresAt() {
+        return System.currentTimeMillis() + ttl.toMillis();
+    }
+
+    private static String digest(Path file) throws IOException {
+        MessageDigest digest = ImageStorageService.sha256();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            while (channel.read(buffer) > 0) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static SessionResponse toResponse(UploadSession session) {
+        return new SessionResponse(
+                session.id,
+                session.size,
+                session.chunkSize,
+                session.totalChunks,
+                session.receivedCount(),
+                session.missing(),
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(session.expiresAtMillis), ZoneId.systemDefault())
+        );
+    }
+}
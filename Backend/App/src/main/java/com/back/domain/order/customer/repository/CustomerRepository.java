@@ -2,6 +2,9 @@ package com.back.domain.order.customer.repository;
 
 import com.back.domain.order.customer.entity.Customer;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -9,4 +12,19 @@ import java.util.Optional;
 @Repository
 public interface CustomerRepository extends JpaRepository<Customer, Long> {
     Optional<Customer> findByEmail(String email);
-}
\ No newline at end of file
+
+    // 없으면 newId 로 insert, 있으면 기존 id 를 LAST_INSERT_ID 로 설정 (MySQL)
+    // insert 시에도 LAST_INSERT_ID(newId) 로 설정되므로 lastInsertId() 는 항상 최종 고객 id 를 돌려준다
+    // 같은 이메일로 동시에 들어와도 unique 제약 위반 없이 하나의 고객으로 수렴한다
+    @Modifying
+    @Query(value = """
+            insert into customer (id, email, create_date, modify_date)
+            values (last_insert_id(:newId), :email, now(6), now(6))
+            on duplicate key update id = last_insert_id(id)
+            """, nativeQuery = true)
+    int upsertByEmail(@Param("newId") long newId, @Param("email") String email);
+
+    // 같은 커넥션에서 직전 upsertByEmail 이 설정한 고객 id
+    @Query(value = "select last_insert_id()", nativeQuery = true)
+    Number lastInsertId();
+}
@@ -0,0 +1,51 @@
+package com.back.domain.order.customer.service;
+
+import com.back.domain.order.customer.repository.CustomerRepository;
+import com.back.global.cache.BoundedTtlCache;
+import com.back.global.jpa.id.TimeOrderedIds;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Service
+public class CustomerService {
+    private final CustomerRepository customerRepository;
+
+    // 이메일 → 고객 id. 재주문 고객은 DB 조회 없이 바로 id 를 얻는다
+    private final BoundedTtlCache<String, Long> customerIdCache;
+
+    public CustomerService(
+            CustomerRepository customerRepository,
+            @Value("${customer.id-cache.size:50000}") int cacheSize,
+            @Value("${customer.id-cache.ttl-minutes:60}") long ttlMinutes
+    ) {
+        this.customerRepository = customerRepository;
+        this.customerIdCache = new BoundedTtlCache<>(cacheSize, ttlMinutes * 60_000);
+    }
+
+    // 이메일에 해당하는 고객 id 를 반환하고, 없으면 원자적으로 생성한다
+    @Transactional
+    public long resolveCustomerId(String email) {
+        Long cached = customerIdCache.get(email);
+        if (cached != null) return cached;
+
+        customerRepository.upsertByEmail(TimeOrderedIds.next(), email);
+        long customerId = customerRepository.lastInsertId().longValue();
+
+        // 신규 고객 insert 가 롤백될 수 있으므로 커밋된 뒤에만 캐시한다
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    customerIdCache.put(email, customerId);
+                }
+            });
+        } else {
+            customerIdCache.put(email, customerId);
+        }
+
+        return customerId;
+    }
+}
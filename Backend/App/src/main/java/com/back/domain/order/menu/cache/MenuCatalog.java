@@ -0,0 +1,24 @@
+package com.back.domain.order.menu.cache;
+
+import com.back.domain.order.menu.dto.MenuDto.MenuListResponse;
+
+import java.util.List;
+
+// 특정 시점의 메뉴 목록 스냅샷 (불변)
+// json/gzipJson 은 응답 본문으로 그대로 쓰이므로 외부에서 수정하지 않는다
+public record MenuCatalog(
+        long version,
+        List<MenuListResponse> menus,
+        byte[] json,
+        byte[] gzipJson,
+        String etag
+) {
+    public MenuCatalog {
+        menus = List.copyOf(menus);
+    }
+
+    // 인코딩별 표현이 다르므로 ETag 도 구분한다
+    public String gzipEtag() {
+        return etag.substring(0, etag.length() - 1) + "-gzip\"";
+    }
+}
@@ -0,0 +1,133 @@
+package com.back.domain.order.menu.cache;
+
+import com.back.domain.order.menu.dto.MenuDto.MenuListResponse;
+import com.back.domain.order.menu.repository.MenuRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+// 메뉴 목록 캐시
+// - 평상시 조회는 메모리의 불변 스냅샷만 반환한다 (DB 접근 없음)
+// - 메뉴가 변경되면 스냅샷을 폐기하고, 트랜잭션 종료 후 첫 조회에서 한 번만 다시 적재한다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MenuCatalogCache {
+    private final MenuRepository menuRepository;
+
+    // MVC 응답과 같은 설정(날짜 형식 등)으로 직렬화하도록 Spring 이 구성한 mapper 를 쓴다
+    private final ObjectMapper objectMapper;
+
+    // 변경이 있을 때마다 증가하는 세대 번호 (적재 도중 변경이 생기면 결과를 저장하지 않는다)
+    private final AtomicLong generation = new AtomicLong();
+
+    private volatile MenuCatalog snapshot;
+
+    public MenuCatalog get() {
+        // 현재 트랜잭션에서 메뉴를 변경했다면 커밋 전 데이터가 캐시되지 않도록 직접 조회한다
+        if (TransactionSynchronizationManager.hasResource(this)) {
+            return load(generation.get());
+        }
+
+        MenuCatalog current = snapshot;
+        if (current != null) return current;
+
+        return reload();
+    }
+
+    private synchronized MenuCatalog reload() {
+        MenuCatalog current = snapshot;
+        if (current != null) return current;
+
+        long loadedGeneration = generation.get();
+        MenuCatalog loaded = load(loadedGeneration);
+
+        if (generation.get() == loadedGeneration) {
+            snapshot = loaded;
+            log.debug("메뉴 캐시 적재: version={}, size={}", loaded.version(), loaded.menus().size());
+        }
+        return loaded;
+    }
+
+    // 메뉴 생성/수정/삭제 시 호출
+    public void evict() {
+        invalidate();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()
+                && !TransactionSynchronizationManager.hasResource(this)) {
+            TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(MenuCatalogCache.this);
+                    // 커밋/롤백 사이에 적재된 스냅샷도 버린다
+                    invalidate();
+                }
+            });
+        }
+    }
+
+    private void invalidate() {
+        generation.incrementAndGet();
+        snapshot = null;
+    }
+
+    private MenuCatalog load(long version) {
+        List<MenuListResponse> menus = menuRepository.findAll()
+                .stream()
+                .map(MenuListResponse::new)
+                .toList();
+
+        // 직렬화/압축은 메뉴가 바뀔 때만 수행하고, 조회 시에는 바이트를 그대로 내려준다
+        byte[] json = toJson(menus);
+        byte[] gzipJson = gzip(json);
+
+        return new MenuCatalog(version, menus, json, gzipJson, etagOf(json));
+    }
+
+    private byte[] toJson(List<MenuListResponse> menus) {
+        try {
+            return objectMapper.writeValueAsBytes(menus);
+        } catch (JacksonException e) {
+            throw new IllegalStateException("메뉴 목록 직렬화 실패", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 2 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {{
+            def.setLevel(Deflater.BEST_COMPRESSION);
+        }}) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    // 내용 기반 strong ETag (같은 메뉴 목록이면 재시작 후에도 동일)
+    private static String etagOf(byte[] json) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(json);
+            return "\"" + HexFormat.of().formatHex(hash, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.back.domain.order.menu.cache;
+
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreRemove;
+import jakarta.persistence.PreUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+
+// MenuService 를 거치지 않는 변경(초기 데이터, 테스트 등)도 캐시에 반영되도록 하는 엔티티 리스너
+// insert 는 flush 시점까지 미뤄지므로 persist/remove 호출 시점(Pre*)에 바로 캐시를 무효화한다
+@RequiredArgsConstructor
+public class MenuCatalogEntityListener {
+    // EntityManagerFactory 생성 시점과의 순환 참조를 피하기 위해 지연 조회
+    private final ObjectProvider<MenuCatalogCache> menuCatalogCache;
+
+    @PrePersist
+    @PreUpdate
+    @PreRemove
+    public void onChange(Object menu) {
+        menuCatalogCache.ifAvailable(MenuCatalogCache::evict);
+    }
+}
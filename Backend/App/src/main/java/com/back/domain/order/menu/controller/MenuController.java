@@ -1,5 +1,6 @@
 package com.back.domain.order.menu.controller;
 
+import com.back.domain.order.menu.cache.MenuCatalog;
 import com.back.domain.order.menu.dto.CreateMenuRequestDto;
 import com.back.domain.order.menu.dto.DeleteMenuRequestDto;
 import com.back.domain.order.menu.dto.MenuDto;
@@ -8,17 +9,23 @@ import com.back.domain.order.menu.service.MenuService;
 import com.back.global.rsData.RsData;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
-import java.util.List;
 import static com.back.domain.order.menu.dto.MenuDto.*;
 
 @Tag(name = "Menu API", description = "메뉴 조회, 생성, 수정, 삭제를 담당하는 API 그룹입니다.")
@@ -30,16 +37,75 @@ public class MenuController {
 
     @Operation(summary = "메뉴 전체 조회", description = "현재 등록된 모든 메뉴의 목록을 반환합니다.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200-1", description = "조회 성공")
+            @ApiResponse(responseCode = "200-1", description = "조회 성공 (Accept-Encoding 에 따라 gzip 응답)",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = MenuListResponse.class)))),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)")
     })
     @GetMapping
-    @Transactional(readOnly = true)
-    public List<MenuListResponse> getMenus() {
-        List<Menu> menus = menuService.findAll();
-        return menus
-                .stream()
-                .map(MenuListResponse::new)
-                .toList();
+    public ResponseEntity<byte[]> getMenus(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest request,
+            HttpServletResponse servletResponse
+    ) {
+        MenuCatalog catalog = menuService.getCatalog();
+        boolean gzip = acceptsGzip(acceptEncoding);
+        String etag = gzip ? catalog.gzipEtag() : catalog.etag();
+
+        // ETag 가 인코딩마다 다르므로 304 응답에도 Vary 가 있어야 캐시가 인코딩별로 구분한다
+        servletResponse.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        // If-None-Match 가 현재 ETag 와 같으면 304 Not Modified
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+
+        // 미리 직렬화/압축해 둔 바이트를 그대로 내려준다
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag);
+
+        if (gzip) {
+            return response
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .body(catalog.gzipJson());
+        }
+        return response.body(catalog.json());
+    }
+
+    // Accept-Encoding 이 gzip 을 허용하면 true (RFC 9110 12.5.3)
+    // gzip 을 직접 적은 항목이 * 보다 우선한다 (예: "*;q=0, gzip" 은 허용, "gzip;q=0, *" 은 거부)
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) return false;
+
+        Double gzipQuality = null;
+        Double anyQuality = null;
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().split(";");
+            String coding = parts[0].trim();
+            if (coding.equalsIgnoreCase("gzip")) {
+                gzipQuality = quality(parts);
+            } else if (coding.equals("*")) {
+                anyQuality = quality(parts);
+            }
+        }
+
+        if (gzipQuality != null) return gzipQuality > 0;
+        return anyQuality != null && anyQuality > 0;
+    }
+
+    // q 파라미터 값 (없으면 1, 잘못된 값이면 0)
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String param = parts[i].trim();
+            if (param.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(param.substring(2));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
     }
 
     @Operation(summary = "메뉴 정보 수정", description = "특정 메뉴의 이름, 가격, 이미지 URL, 카테고리 정보를 업데이트합니다.")
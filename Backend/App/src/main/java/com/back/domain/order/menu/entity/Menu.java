@@ -1,5 +1,6 @@
 package com.back.domain.order.menu.entity;
 
+import com.back.domain.order.menu.cache.MenuCatalogEntityListener;
 import com.back.global.jpa.entity.BaseEntity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
@@ -8,6 +9,7 @@ import lombok.*;
 
 @Entity
 @Table(name = "menu")
+@EntityListeners(MenuCatalogEntityListener.class)
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
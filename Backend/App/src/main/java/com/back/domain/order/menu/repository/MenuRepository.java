@@ -5,8 +5,15 @@ import com.back.domain.order.menu.entity.Menu;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface MenuRepository extends JpaRepository<Menu, Long> {
 
-    int deleteByIdAndEmail(Long menuId, @NotBlank @Email String email);
+    // 파생 delete 쿼리는 엔티티를 먼저 조회한 뒤 한 건씩 삭제하므로 delete 문 하나로 처리
+    // (메뉴 캐시는 MenuService 에서 직접 무효화)
+    @Modifying
+    @Query("delete from Menu m where m.id = :menuId and m.email = :email")
+    int deleteByIdAndEmail(@Param("menuId") Long menuId, @Param("email") @NotBlank @Email String email);
 }
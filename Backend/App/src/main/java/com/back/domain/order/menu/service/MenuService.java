@@ -1,6 +1,8 @@
 package com.back.domain.order.menu.service;
 
 
+import com.back.domain.order.menu.cache.MenuCatalog;
+import com.back.domain.order.menu.cache.MenuCatalogCache;
 import com.back.domain.order.menu.dto.CreateMenuRequestDto;
 import com.back.domain.order.menu.dto.DeleteMenuRequestDto;
 import com.back.domain.order.menu.dto.MenuDto;
@@ -11,6 +13,7 @@ import com.back.domain.order.order.entity.Order;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -21,11 +24,19 @@ import java.util.Optional;
 @Transactional(readOnly = true)
 public class MenuService {
     private final MenuRepository menuRepository;
+    private final MenuCatalogCache menuCatalogCache;
 
     public List<Menu> findAll(){
         return menuRepository.findAll();
     }
 
+    // 메뉴 목록 조회는 캐시된 스냅샷을 사용 (DB 접근 없음)
+    // 클래스의 readOnly 트랜잭션을 열면 캐시 적중 때도 커넥션을 빌리므로 트랜잭션 없이 실행한다 (적재 시에는 리포지토리 트랜잭션 사용)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public MenuCatalog getCatalog() {
+        return menuCatalogCache.get();
+    }
+
     public Optional<Menu> findById(Long id){
         return menuRepository.findById(id);
     }
@@ -42,6 +53,7 @@ public class MenuService {
             ) {
         if (menu.getEmail().equals(email)) {
             menu.modify(menuName, menuPrice, imageUrl, category);
+            menuCatalogCache.evict();
             return true;
         }
         else return false;
@@ -49,11 +61,14 @@ public class MenuService {
     public void createMenu(CreateMenuRequestDto req) {
         Menu menu = new Menu(req.getMenuName(),req.getImageURL(),req.getPrice(),req.getCategory(),req.getEmail());
         menuRepository.save(menu);
+        menuCatalogCache.evict();
     }
 
     // 삭제 성공 시 True, 아니면 False return
     public boolean deleteMenu(DeleteMenuRequestDto req) {
         if (req.getMenuId() == null || req.getEmail() == null) return false;
-        return menuRepository.deleteByIdAndEmail(req.getMenuId(), req.getEmail()) == 1;
+        boolean deleted = menuRepository.deleteByIdAndEmail(req.getMenuId(), req.getEmail()) == 1;
+        if (deleted) menuCatalogCache.evict();
+        return deleted;
     }
 }
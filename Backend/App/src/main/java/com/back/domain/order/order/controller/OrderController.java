@@ -1,6 +1,8 @@
 package com.back.domain.order.order.controller;
 
 import com.back.domain.order.order.dto.OrderDto;
+import com.back.domain.order.order.service.OrderIdempotencyService;
+import com.back.domain.order.order.service.OrderIntakeService;
 import com.back.domain.order.order.service.OrderService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -11,18 +13,24 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.Optional;
+
 @Tag(name = "Order API", description = "카페 주문 생성 및 고객별 주문 내역 조회를 담당하는 API입니다.")
 @RestController
 @RequiredArgsConstructor
 public class OrderController {
     private final OrderService orderService;
+    private final OrderIntakeService orderIntakeService;
+    private final OrderIdempotencyService orderIdempotencyService;
 
     @Operation(
             summary = "주문 등록",
@@ -31,11 +39,13 @@ public class OrderController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200-1", description = "주문 완료 (성공 메시지 반환)",
                     content = @Content(schema = @Schema(implementation = OrderDto.CreateResponse.class))),
-            @ApiResponse(responseCode = "400-1", description = "요청 데이터 유효성 검사 실패")
+            @ApiResponse(responseCode = "400-1", description = "요청 데이터 유효성 검사 실패"),
+            @ApiResponse(responseCode = "503-1", description = "주문 접수 큐가 가득 참 (group commit 모드)")
     })
     @PostMapping("/api/order")
-    @Transactional
     public ResponseEntity<OrderDto.CreateResponse> createOrder(
+            @Parameter(description = "재시도 시 중복 주문을 막기 위한 클라이언트 생성 키 (선택)")
+            @RequestHeader(value = OrderIdempotencyService.HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody OrderDto.CreateRequest request) {
 
         // 주문 최대 수량 100개 제한 (전체 수량 기준)
@@ -50,11 +60,37 @@ public class OrderController {
                     .body(new OrderDto.CreateResponse("주문 수량은 1개 이상 100개 이하만 가능합니다."));
         }
 
-        orderService.createOrder(request);
+        // 이미 처리된 Idempotency-Key 면 주문 테이블을 건드리지 않고 최초 응답을 그대로 반환
+        if (idempotencyKey != null) {
+            Optional<OrderDto.CreateResponse> replay = orderIdempotencyService.findResponse(idempotencyKey, request);
+            if (replay.isPresent()) {
+                return replayed(replay.get());
+            }
+        }
+
+        OrderDto.CreateCommand command = new OrderDto.CreateCommand(request, idempotencyKey);
+
+        try {
+            // group commit 모드에서는 큐에 넣고 writer 가 여러 주문을 한 번에 커밋할 때까지 기다린다
+            if (orderIntakeService.isEnabled()) {
+                orderIntakeService.createOrder(command);
+            } else {
+                orderService.createOrder(command);
+            }
+        } catch (DataIntegrityViolationException e) {
+            // 같은 키로 동시에 들어온 다른 요청이 먼저 커밋된 경우
+            if (idempotencyKey == null) throw e;
+
+            return replayed(orderIdempotencyService.findResponse(idempotencyKey, request).orElseThrow(() -> e));
+        }
+
+        return ResponseEntity.ok(OrderDto.CreateResponse.SUCCESS);
+    }
 
-        return ResponseEntity.ok(
-                new OrderDto.CreateResponse("주문이 성공적으로 등록되었습니다.")
-        );
+    private static ResponseEntity<OrderDto.CreateResponse> replayed(OrderDto.CreateResponse response) {
+        return ResponseEntity.ok()
+                .header("Idempotent-Replayed", "true")
+                .body(response);
     }
 
     @PostMapping("/api/order/list")
@@ -72,5 +108,18 @@ public class OrderController {
         return ResponseEntity.ok(response);
     }
 
-
+    @Operation(
+            summary = "주문 내역 페이지 조회",
+            description = "최근 주문부터 size 건씩 주문 내역과 주문별 합계를 반환합니다. 응답의 nextCursor 를 다음 요청의 cursor 로 전달하면 이어서 조회합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공 (nextCursor 가 null 이면 마지막 페이지)"),
+            @ApiResponse(responseCode = "400-1", description = "잘못된 커서 또는 페이지 크기")
+    })
+    @PostMapping("/api/order/list/page")
+    public ResponseEntity<OrderDto.OrderPageResponse> orderPage(
+            @Valid @RequestBody OrderDto.OrderPageRequest request
+    ) {
+        return ResponseEntity.ok(orderService.getOrderPage(request));
+    }
 }
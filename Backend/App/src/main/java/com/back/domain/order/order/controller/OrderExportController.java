@@ -0,0 +1,62 @@
+package com.back.domain.order.order.controller;
+
+import com.back.domain.order.order.dto.OrderExportDto;
+import com.back.domain.order.order.service.OrderExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDateTime;
+
+// 고객 이메일/주소를 통째로 내보내는데 아직 관리자 인증이 없으므로 기본은 꺼 두고,
+// 내부망 등 접근이 통제된 환경에서만 order.export.enabled=true 로 켠다 (꺼져 있으면 404)
+@Tag(name = "Order Export API", description = "운영용 기간별 주문 내보내기 API입니다.")
+@RestController
+@ConditionalOnProperty(name = "order.export.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class OrderExportController {
+    private final OrderExportService orderExportService;
+
+    @Operation(
+            summary = "기간별 주문 내보내기",
+            description = "[from, to) 기간의 주문과 주문 상품을 NDJSON(주문 1건 = 1줄) 또는 CSV(주문 상품 1개 = 1줄)로 스트리밍합니다."
+    )
+    @GetMapping("/api/admin/orders/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @Parameter(description = "시작 시각 (포함)", example = "2026-10-01T00:00:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "종료 시각 (미포함)", example = "2026-11-01T00:00:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "ndjson 또는 csv")
+            @RequestParam(defaultValue = "ndjson") String format
+    ) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("from 은 to 보다 이전이어야 합니다.");
+        }
+
+        OrderExportDto.Format exportFormat = OrderExportDto.Format.from(format);
+        String filename = "orders_%s_%s.%s".formatted(
+                from.toLocalDate(), to.toLocalDate(), exportFormat.extension());
+
+        StreamingResponseBody body = out -> orderExportService.export(from, to, exportFormat, out);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.contentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(filename)
+                        .build()
+                        .toString())
+                .body(body);
+    }
+}
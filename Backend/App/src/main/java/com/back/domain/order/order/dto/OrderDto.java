@@ -2,9 +2,12 @@ package com.back.domain.order.order.dto;
 
 import com.back.domain.order.order.entity.Order;
 import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public class OrderDto {
@@ -23,7 +26,19 @@ public class OrderDto {
     ) {
     }
 
-    public record CreateResponse(String message) {}
+    public record CreateResponse(String message) {
+        public static final CreateResponse SUCCESS = new CreateResponse("주문이 성공적으로 등록되었습니다.");
+    }
+
+    // 주문 생성 요청 + Idempotency-Key (없으면 null)
+    public record CreateCommand(
+            CreateRequest request,
+            String idempotencyKey
+    ) {
+        public CreateCommand(CreateRequest request) {
+            this(request, null);
+        }
+    }
 
     public record OrderListRequest(
             @NotNull String email
@@ -53,4 +68,38 @@ public class OrderDto {
             @NotNull List<OrderItemDTO> items
     ) {
     }
+
+    // 주문 내역 페이지 조회 요청 (cursor 가 없으면 가장 최근 주문부터)
+    public record OrderPageRequest(
+            @NotBlank String email,
+            String cursor,
+            @Min(1) @Max(MAX_PAGE_SIZE) Integer size
+    ) {
+        public static final int DEFAULT_PAGE_SIZE = 20;
+        public static final int MAX_PAGE_SIZE = 100;
+
+        public int pageSize() {
+            return size == null ? DEFAULT_PAGE_SIZE : size;
+        }
+    }
+
+    // 주문 1건 요약 + 합계 + 주문 상품 목록
+    public record OrderPageSummary(
+            long orderId,
+            LocalDateTime orderTime,
+            String address,
+            int postcode,
+            long totalCount,
+            long totalPrice,
+            List<OrderItemDTO> items
+    ) {
+    }
+
+    // nextCursor 가 null 이면 마지막 페이지
+    public record OrderPageResponse(
+            String email,
+            List<OrderPageSummary> orders,
+            String nextCursor
+    ) {
+    }
 }
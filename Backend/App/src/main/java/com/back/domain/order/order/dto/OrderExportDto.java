@@ -0,0 +1,66 @@
+package com.back.domain.order.order.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class OrderExportDto {
+
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String contentType() {
+            return contentType;
+        }
+
+        public String extension() {
+            return extension;
+        }
+
+        public static Format from(String value) {
+            for (Format format : values()) {
+                if (format.extension.equalsIgnoreCase(value)) return format;
+            }
+            throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + value);
+        }
+    }
+
+    // 내보내기 쿼리의 한 행 (주문 상품 1개 = 1 row)
+    public record ExportRow(
+            long orderId,
+            LocalDateTime orderTime,
+            String email,
+            String address,
+            int postcode,
+            String menuName,
+            int menuPrice,
+            int count
+    ) {
+    }
+
+    // NDJSON 한 줄 = 주문 1건
+    public record ExportOrder(
+            long orderId,
+            String orderTime, // ISO-8601
+            String email,
+            String address,
+            int postcode,
+            List<ExportItem> items
+    ) {
+    }
+
+    public record ExportItem(
+            String menuName,
+            int menuPrice,
+            int count
+    ) {
+    }
+}
@@ -0,0 +1,12 @@
+package com.back.domain.order.order.dto;
+
+// 주문 내역 조회용 프로젝션 (주문 1건의 주문 상품 1개 = 1 row)
+public record OrderHistoryRow(
+        long orderId,
+        String address,
+        int postcode,
+        String menuName,
+        int menuPrice,
+        int count
+) {
+}
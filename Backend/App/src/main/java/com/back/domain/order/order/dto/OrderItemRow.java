@@ -0,0 +1,10 @@
+package com.back.domain.order.order.dto;
+
+// 주문 id 목록으로 주문 상품을 조회할 때 사용하는 프로젝션
+public record OrderItemRow(
+        long orderId,
+        String menuName,
+        int menuPrice,
+        int count
+) {
+}
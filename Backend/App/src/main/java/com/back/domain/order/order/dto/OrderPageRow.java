@@ -0,0 +1,14 @@
+package com.back.domain.order.order.dto;
+
+import java.time.LocalDateTime;
+
+// 주문 내역 페이지 조회용 프로젝션 (주문 1건 = 1 row, 합계는 쿼리에서 계산)
+public record OrderPageRow(
+        long orderId,
+        LocalDateTime orderTime,
+        String address,
+        int postcode,
+        Long totalCount,
+        Long totalPrice
+) {
+}
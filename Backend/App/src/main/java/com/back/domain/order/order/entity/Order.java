@@ -1,10 +1,12 @@
 package com.back.domain.order.order.entity;
 
 import com.back.domain.order.customer.entity.Customer;
+import com.back.domain.order.menu.entity.Menu;
 import com.back.domain.order.orderitem.entity.OrderItem;
 import com.back.global.jpa.entity.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.Hibernate;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -13,7 +15,15 @@ import java.util.List;
 import static jakarta.persistence.FetchType.LAZY;
 
 @Entity
-@Table(name = "orders")
+@Table(
+        name = "orders",
+        indexes = {
+                // 고객별 주문 내역 키셋 페이지네이션 (customer_id, order_time, id)
+                @Index(name = "idx_orders_customer_time_id", columnList = "customer_id, order_time, id"),
+                // 기간별 주문 조회 (내보내기, 택배 묶음 배치)
+                @Index(name = "idx_orders_order_time", columnList = "order_time")
+        }
+)
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -40,8 +50,18 @@ public class Order extends BaseEntity {
 
     public void setCustomer(Customer customer) {
         this.customer = customer;
-        if (customer != null && !customer.getOrders().contains(this)) {
-            customer.getOrders().add(this);
+
+        // 고객의 주문 목록이 이미 로딩된 경우에만 양방향 연관관계를 맞춘다
+        // (지연 로딩 프록시/컬렉션을 초기화하면 주문할 때마다 고객의 전체 주문 이력을 읽게 된다)
+        if (customer == null || !Hibernate.isInitialized(customer)) return;
+
+        List<Order> orders = customer.getOrders();
+        if (Hibernate.isInitialized(orders) && !orders.contains(this)) {
+            orders.add(this);
         }
     }
+
+    public void addOrderItem(Menu menu, int count) {
+        orderItems.add(new OrderItem(this, menu, count));
+    }
 }
@@ -0,0 +1,25 @@
+package com.back.domain.order.order.entity;
+
+import com.back.global.jpa.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+// 주문 생성 요청의 Idempotency-Key 와 최초 응답 (주문과 같은 트랜잭션에서 저장)
+@Entity
+@Table(name = "order_idempotency")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderIdempotency extends BaseEntity {
+
+    @Column(unique = true, nullable = false, length = 100)
+    private String idempotencyKey;
+
+    // 같은 키로 다른 요청을 보내는 것을 막기 위한 요청 본문 해시
+    @Column(nullable = false, length = 64)
+    private String requestHash;
+
+    private long orderId;
+
+    private String responseMessage;
+}
@@ -0,0 +1,66 @@
+package com.back.domain.order.order.repository;
+
+import com.back.domain.order.order.dto.OrderExportDto.ExportRow;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+// 기간별 주문 내보내기 전용 JDBC 조회
+// 결과 전체를 메모리에 올리지 않도록 forward-only 커서로 한 행씩 넘겨준다
+@Repository
+public class OrderExportRepository {
+
+    // MySQL Connector/J 는 fetchSize 가 Integer.MIN_VALUE 일 때 행 단위 스트리밍 결과셋을 사용한다
+    private static final int STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+
+    private static final String EXPORT_SQL = """
+            select o.id, o.order_time, c.email, o.address, o.postcode,
+                   m.menu_name, m.menu_price, oi.count
+            from orders o
+            join customer c on c.id = o.customer_id
+            join order_item oi on oi.order_id = o.id
+            join menu m on m.id = oi.menu_id
+            where o.order_time >= ? and o.order_time < ?
+            order by o.order_time, o.id, oi.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OrderExportRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void streamRows(LocalDateTime from, LocalDateTime to, Consumer<ExportRow> consumer) {
+        jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement ps = connection.prepareStatement(
+                            EXPORT_SQL,
+                            ResultSet.TYPE_FORWARD_ONLY,
+                            ResultSet.CONCUR_READ_ONLY
+                    );
+                    ps.setFetchSize(STREAMING_FETCH_SIZE);
+                    ps.setTimestamp(1, Timestamp.valueOf(from));
+                    ps.setTimestamp(2, Timestamp.valueOf(to));
+                    return ps;
+                },
+                (RowCallbackHandler) rs -> {
+                    consumer.accept(new ExportRow(
+                            rs.getLong(1),
+                            rs.getTimestamp(2).toLocalDateTime(),
+                            rs.getString(3),
+                            rs.getString(4),
+                            rs.getInt(5),
+                            rs.getString(6),
+                            rs.getInt(7),
+                            rs.getInt(8)
+                    ));
+                }
+        );
+    }
+}
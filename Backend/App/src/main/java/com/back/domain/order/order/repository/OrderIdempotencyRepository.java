@@ -0,0 +1,18 @@
+package com.back.domain.order.order.repository;
+
+import com.back.domain.order.order.entity.OrderIdempotency;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface OrderIdempotencyRepository extends JpaRepository<OrderIdempotency, Long> {
+    Optional<OrderIdempotency> findByIdempotencyKey(String idempotencyKey);
+
+    @Modifying
+    @Query("delete from OrderIdempotency i where i.createDate < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
+}
@@ -1,11 +1,50 @@
 package com.back.domain.order.order.repository;
 
+import com.back.domain.order.order.dto.OrderPageRow;
 import com.back.domain.order.order.entity.Order;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface OrderRepository extends JpaRepository<Order, Long> {
     List<Order> findByCustomerEmail(String email);
 
+    // 주문 내역 첫 페이지 (최근 주문 순, 인덱스 idx_orders_customer_time_id 사용)
+    @Query("""
+            select new com.back.domain.order.order.dto.OrderPageRow(
+                o.id, o.orderTime, o.address, o.postcode,
+                (select sum(oi.count) from OrderItem oi where oi.order = o),
+                (select sum(oi.count * m.menuPrice) from OrderItem oi join oi.menu m where oi.order = o)
+            )
+            from Order o
+            where o.customer.id = :customerId
+            order by o.orderTime desc, o.id desc
+            """)
+    List<OrderPageRow> findOrderPage(
+            @Param("customerId") long customerId,
+            Pageable pageable
+    );
+
+    // 주문 내역 다음 페이지: (orderTime, id) 가 커서보다 앞선 주문
+    @Query("""
+            select new com.back.domain.order.order.dto.OrderPageRow(
+                o.id, o.orderTime, o.address, o.postcode,
+                (select sum(oi.count) from OrderItem oi where oi.order = o),
+                (select sum(oi.count * m.menuPrice) from OrderItem oi join oi.menu m where oi.order = o)
+            )
+            from Order o
+            where o.customer.id = :customerId
+              and (o.orderTime < :orderTime or (o.orderTime = :orderTime and o.id < :orderId))
+            order by o.orderTime desc, o.id desc
+            """)
+    List<OrderPageRow> findOrderPageAfter(
+            @Param("customerId") long customerId,
+            @Param("orderTime") LocalDateTime orderTime,
+            @Param("orderId") long orderId,
+            Pageable pageable
+    );
 }
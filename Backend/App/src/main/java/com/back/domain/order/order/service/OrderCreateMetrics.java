@@ -0,0 +1,85 @@
+package com.back.domain.order.order.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// 주문 생성 단계별 소요 시간 (order.create.stage{stage=...})
+// - validate: 메뉴 존재 확인, customer: 고객 id 조회/생성, assemble: 주문/주문 상품 구성
+// - persist: 영속화(save), idempotency: Idempotency-Key 저장
+// - commit: flush + 커밋 (id 를 애플리케이션에서 발급하므로 insert 는 커밋 시점에 batch 로 실행된다)
+@Component
+public class OrderCreateMetrics {
+
+    private static final String TIMER_NAME = "order.create.stage";
+
+    private final Timer validate;
+    private final Timer customer;
+    private final Timer assemble;
+    private final Timer persist;
+    private final Timer idempotency;
+    private final Timer commit;
+
+    public OrderCreateMetrics(MeterRegistry meterRegistry) {
+        this.validate = timer(meterRegistry, "validate");
+        this.customer = timer(meterRegistry, "customer");
+        this.assemble = timer(meterRegistry, "assemble");
+        this.persist = timer(meterRegistry, "persist");
+        this.idempotency = timer(meterRegistry, "idempotency");
+        this.commit = timer(meterRegistry, "commit");
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String stage) {
+        return Timer.builder(TIMER_NAME)
+                .description("주문 생성 단계별 소요 시간")
+                .tag("stage", stage)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    public <T> T validate(Supplier<T> supplier) {
+        return validate.record(supplier);
+    }
+
+    public long customer(Supplier<Long> supplier) {
+        return customer.record(supplier);
+    }
+
+    public <T> T assemble(Supplier<T> supplier) {
+        return assemble.record(supplier);
+    }
+
+    public void persist(Runnable runnable) {
+        persist.record(runnable);
+    }
+
+    public void idempotency(Runnable runnable) {
+        idempotency.record(runnable);
+    }
+
+    // 현재 트랜잭션의 커밋 직전 ~ 완료까지 측정
+    public void timeCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private long startNanos;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                startNanos = System.nanoTime();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (startNanos != 0) {
+                    commit.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,180 @@
+package com.back.domain.order.order.service;
+
+import com.back.domain.order.order.dto.OrderExportDto;
+import com.back.domain.order.order.dto.OrderExportDto.ExportItem;
+import com.back.domain.order.order.dto.OrderExportDto.ExportOrder;
+import com.back.domain.order.order.dto.OrderExportDto.ExportRow;
+import com.back.domain.order.order.repository.OrderExportRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderExportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final OrderExportRepository orderExportRepository;
+
+    // API 응답과 같은 설정으로 직렬화하도록 Spring 이 구성한 mapper 를 쓴다
+    private final ObjectMapper objectMapper;
+
+    // [from, to) 기간의 주문을 format 형식으로 out 에 기록한다
+    // 조회 결과를 한 행씩 바로 써 내려가므로 메모리 사용량은 주문 1건 분량으로 일정하다
+    public void export(LocalDateTime from, LocalDateTime to, OrderExportDto.Format format, OutputStream out) throws IOException {
+        long start = System.nanoTime();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+
+        RowWriter rowWriter = switch (format) {
+            case NDJSON -> new NdjsonRowWriter(writer, objectMapper);
+            case CSV -> new CsvRowWriter(writer);
+        };
+
+        try {
+            orderExportRepository.streamRows(from, to, rowWriter::write);
+            rowWriter.finish();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+
+        log.info("주문 내보내기 완료: format={}, from={}, to={}, rows={}, {}ms",
+                format, from, to, rowWriter.rows, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private abstract static class RowWriter {
+        protected final Writer writer;
+        long rows;
+
+        RowWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        void write(ExportRow row) {
+            rows++;
+            try {
+                doWrite(row);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        abstract void doWrite(ExportRow row) throws IOException;
+
+        void finish() throws IOException {
+        }
+    }
+
+    // 주문 1건 = 1줄. 쿼리가 주문 id 순으로 정렬되어 있으므로 주문이 바뀔 때 이전 주문을 내보낸다
+    private static class NdjsonRowWriter extends RowWriter {
+        private final ObjectMapper objectMapper;
+        private ExportRow current;
+        private final List<ExportItem> items = new ArrayList<>();
+
+        NdjsonRowWriter(Writer writer, ObjectMapper objectMapper) {
+            super(writer);
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        void doWrite(ExportRow row) throws IOException {
+            if (current != null && current.orderId() != row.orderId()) {
+                flushOrder();
+            }
+            if (current == null) current = row;
+            items.add(new ExportItem(row.menuName(), row.menuPrice(), row.count()));
+        }
+
+        @Override
+        void finish() throws IOException {
+            if (current != null) flushOrder();
+        }
+
+        private void flushOrder() throws IOException {
+            ExportOrder order = new ExportOrder(
+                    current.orderId(),
+                    current.orderTime().toString(),
+                    current.email(),
+                    current.address(),
+                    current.postcode(),
+                    items
+            );
+            try {
+                writer.write(objectMapper.writeValueAsString(order));
+            } catch (JacksonException e) {
+                throw new IOException(e);
+            }
+            writer.write('\n');
+
+            current = null;
+            items.clear();
+        }
+    }
+
+    // 주문 상품 1개 = 1줄 (RFC 4180)
+    private static class CsvRowWriter extends RowWriter {
+        private static final String HEADER = "order_id,order_time,email,address,postcode,menu_name,menu_price,count\r\n";
+
+        private boolean headerWritten;
+
+        CsvRowWriter(Writer writer) {
+            super(writer);
+        }
+
+        @Override
+        void doWrite(ExportRow row) throws IOException {
+            if (!headerWritten) writeHeader();
+
+            writer.write(Long.toString(row.orderId()));
+            writer.write(',');
+            writer.write(row.orderTime().toString());
+            writer.write(',');
+            writer.write(escape(row.email()));
+            writer.write(',');
+            writer.write(escape(row.address()));
+            writer.write(',');
+            writer.write(Integer.toString(row.postcode()));
+            writer.write(',');
+            writer.write(escape(row.menuName()));
+            writer.write(',');
+            writer.write(Integer.toString(row.menuPrice()));
+            writer.write(',');
+            writer.write(Integer.toString(row.count()));
+            writer.write("\r\n");
+        }
+
+        @Override
+        void finish() throws IOException {
+            if (!headerWritten) writeHeader();
+        }
+
+        private void writeHeader() throws IOException {
+            writer.write(HEADER);
+            headerWritten = true;
+        }
+
+        private static String escape(String value) {
+            if (value == null) return "";
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+                    && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+    }
+}
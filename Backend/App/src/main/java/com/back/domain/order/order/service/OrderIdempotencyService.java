@@ -0,0 +1,115 @@
+package com.back.domain.order.order.service;
+
+import com.back.domain.order.order.dto.OrderDto;
+import com.back.domain.order.order.entity.OrderIdempotency;
+import com.back.domain.order.order.repository.OrderIdempotencyRepository;
+import com.back.global.cache.BoundedTtlCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+
+// 주문 생성 Idempotency-Key 처리
+// - 최근 키는 크기 제한 + TTL 인메모리 캐시에서, 없으면 order_idempotency 테이블에서 찾는다
+// - 키 저장은 주문과 같은 트랜잭션에서 이루어지므로, 같은 키로 동시에 들어온 요청은 unique 제약으로 하나만 커밋된다
+@Slf4j
+@Service
+public class OrderIdempotencyService {
+    public static final String HEADER = "Idempotency-Key";
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private record StoredResponse(String requestHash, String message) {
+    }
+
+    private final OrderIdempotencyRepository orderIdempotencyRepository;
+    private final BoundedTtlCache<String, StoredResponse> cache;
+    private final long ttlMinutes;
+
+    public OrderIdempotencyService(
+            OrderIdempotencyRepository orderIdempotencyRepository,
+            @Value("${order.idempotency.cache-size:10000}") int cacheSize,
+            @Value("${order.idempotency.ttl-minutes:1440}") long ttlMinutes
+    ) {
+        this.orderIdempotencyRepository = orderIdempotencyRepository;
+        this.cache = new BoundedTtlCache<>(cacheSize, ttlMinutes * 60_000);
+        this.ttlMinutes = ttlMinutes;
+    }
+
+    // 이미 처리된 키면 최초 응답을 반환. 같은 키로 다른 요청 본문을 보내면 400
+    public Optional<OrderDto.CreateResponse> findResponse(String key, OrderDto.CreateRequest request) {
+        validateKey(key);
+
+        StoredResponse stored = cache.get(key);
+        if (stored == null) {
+            stored = orderIdempotencyRepository.findByIdempotencyKey(key)
+                    .filter(row -> row.getCreateDate() == null
+                            || row.getCreateDate().isAfter(LocalDateTime.now().minusMinutes(ttlMinutes)))
+                    .map(row -> new StoredResponse(row.getRequestHash(), row.getResponseMessage()))
+                    .orElse(null);
+
+            if (stored == null) return Optional.empty();
+            cache.put(key, stored);
+        }
+
+        if (!stored.requestHash().equals(hash(request))) {
+            throw new IllegalArgumentException("같은 Idempotency-Key 로 다른 주문을 요청할 수 없습니다.");
+        }
+        return Optional.of(new OrderDto.CreateResponse(stored.message()));
+    }
+
+    // 주문 트랜잭션 안에서 호출. 커밋된 뒤에만 캐시에 올린다
+    public void record(String key, OrderDto.CreateRequest request, long orderId, OrderDto.CreateResponse response) {
+        validateKey(key);
+
+        String requestHash = hash(request);
+        // 주문 insert 와 함께 flush 시점에 batch 로 나간다. 중복 키는 커밋 시 DataIntegrityViolationException 으로 드러나고
+        // OrderController 가 먼저 커밋된 응답을 찾아 돌려준다
+        orderIdempotencyRepository.save(new OrderIdempotency(key, requestHash, orderId, response.message()));
+
+        StoredResponse stored = new StoredResponse(requestHash, response.message());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.put(key, stored);
+                }
+            });
+        } else {
+            cache.put(key, stored);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${order.idempotency.purge-interval-ms:3600000}")
+    @Transactional
+    public void purgeExpired() {
+        int deleted = orderIdempotencyRepository.deleteCreatedBefore(LocalDateTime.now().minusMinutes(ttlMinutes));
+        if (deleted > 0) {
+            log.info("만료된 Idempotency-Key 삭제: {}건", deleted);
+        }
+    }
+
+    private static void validateKey(String key) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key 는 1자 이상 " + MAX_KEY_LENGTH + "자 이하여야 합니다.");
+        }
+    }
+
+    static String hash(OrderDto.CreateRequest request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(request.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
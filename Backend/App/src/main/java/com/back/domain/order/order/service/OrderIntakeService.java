@@ -0,0 +1,200 @@
+package com.back.domain.order.order.service;
+
+import com.back.domain.order.order.dto.OrderDto;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// 주문 접수 group commit 모드
+// - 요청 스레드는 검증된 주문을 bounded 큐에 넣고 자신의 결과만 기다린다
+// - writer 스레드 하나가 큐를 batch 로 비우며 여러 주문을 한 트랜잭션으로 커밋한다
+// - 큐가 가득 차면 offer-timeout 동안 기다린 뒤 거절한다 (backpressure)
+// - 결과는 result-timeout 까지만 기다린다 (writer 가 멈춰도 요청 스레드가 무한정 묶이지 않도록)
+@Slf4j
+@Service
+public class OrderIntakeService {
+
+    private record PendingOrder(
+            OrderDto.CreateCommand command,
+            CompletableFuture<Void> result
+    ) {
+    }
+
+    private final OrderService orderService;
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final long offerTimeoutMillis;
+    private final long resultTimeoutMillis;
+    private final BlockingQueue<PendingOrder> queue;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public OrderIntakeService(
+            OrderService orderService,
+            @Value("${order.intake.group-commit.enabled:false}") boolean enabled,
+            @Value("${order.intake.group-commit.queue-capacity:1000}") int queueCapacity,
+            @Value("${order.intake.group-commit.max-batch-size:100}") int maxBatchSize,
+            @Value("${order.intake.group-commit.offer-timeout-ms:100}") long offerTimeoutMillis,
+            @Value("${order.intake.group-commit.result-timeout-ms:10000}") long resultTimeoutMillis
+    ) {
+        this.orderService = orderService;
+        this.enabled = enabled;
+        this.maxBatchSize = maxBatchSize;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.resultTimeoutMillis = resultTimeoutMillis;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 테스트/모니터링용: 아직 writer 가 가져가지 않은 주문 수
+    int queuedOrders() {
+        return queue.size();
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) return;
+
+        running = true;
+        writer = new Thread(this::writeLoop, "order-intake-writer");
+        writer.setDaemon(true);
+        writer.start();
+        log.info("주문 group commit 모드 시작: queueCapacity={}, maxBatchSize={}",
+                queue.remainingCapacity(), maxBatchSize);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (writer == null) return;
+
+        running = false;
+        writer.interrupt();
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+
+        // 처리되지 못한 주문은 실패로 응답
+        List<PendingOrder> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (PendingOrder pending : remaining) {
+            pending.result().completeExceptionally(new RejectedExecutionException("서버가 종료 중입니다."));
+        }
+    }
+
+    // 큐에 넣고 커밋될 때까지 기다린다. 실패 원인은 그대로 다시 던진다
+    public void createOrder(OrderDto.CreateCommand command) {
+        PendingOrder pending = new PendingOrder(command, new CompletableFuture<>());
+
+        try {
+            if (!running || !queue.offer(pending, offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new RejectedExecutionException("주문이 몰려 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("주문 접수가 중단되었습니다.");
+        }
+
+        try {
+            pending.result().get(resultTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw new IllegalStateException("주문 처리 중 오류가 발생했습니다.", e.getCause());
+        } catch (TimeoutException e) {
+            // 이미 batch 에 들어간 주문은 나중에 커밋될 수 있다 (Idempotency-Key 로 재시도하면 중복되지 않음)
+            throw new RejectedExecutionException("주문 처리가 지연되고 있습니다. 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("주문 접수가 중단되었습니다.");
+        }
+    }
+
+    private void writeLoop() {
+        List<PendingOrder> batch = new ArrayList<>(maxBatchSize);
+
+        while (running) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                break;
+            }
+            queue.drainTo(batch, maxBatchSize - 1);
+
+            try {
+                writeBatch(batch);
+            } catch (Throwable e) {
+                // writeBatch 는 결과를 모두 채우지만, 예상치 못한 오류(Error 포함)로 응답이 누락되거나
+                // writer 스레드가 죽어 이후 주문이 모두 멈추지 않도록 한다
+                log.error("주문 group commit 중 예상치 못한 오류: batchSize={}", batch.size(), e);
+                for (PendingOrder pending : batch) {
+                    pending.result().completeExceptionally(e);
+                }
+            }
+            batch.clear();
+        }
+    }
+
+    private void writeBatch(List<PendingOrder> batch) {
+        // 1. 메뉴 존재 여부를 batch 전체에 대해 한 번에 확인하고, 문제 있는 주문만 개별 실패 처리
+        Set<Long> menuIds = new HashSet<>();
+        for (PendingOrder pending : batch) {
+            for (OrderDto.OrderItemRequest item : pending.command().request().items()) {
+                menuIds.add(item.menuId());
+            }
+        }
+        Set<Long> missingIds = orderService.findMissingMenuIds(menuIds);
+
+        List<PendingOrder> valid = new ArrayList<>(batch.size());
+        for (PendingOrder pending : batch) {
+            List<Long> missing = pending.command().request().items().stream()
+                    .map(OrderDto.OrderItemRequest::menuId)
+                    .filter(missingIds::contains)
+                    .distinct()
+                    .toList();
+
+            if (missing.isEmpty()) {
+                valid.add(pending);
+            } else {
+                pending.result().completeExceptionally(OrderService.missingMenuException(missing));
+            }
+        }
+
+        if (valid.isEmpty()) return;
+
+        // 2. 나머지를 한 트랜잭션으로 커밋
+        try {
+            orderService.createOrders(valid.stream().map(PendingOrder::command).toList());
+            for (PendingOrder pending : valid) {
+                pending.result().complete(null);
+            }
+            return;
+        } catch (RuntimeException e) {
+            log.warn("주문 group commit 실패, 개별 커밋으로 재시도: batchSize={}", valid.size(), e);
+        }
+
+        // 3. batch 커밋이 실패하면 주문별 트랜잭션으로 재시도해 각자의 결과를 돌려준다
+        for (PendingOrder pending : valid) {
+            try {
+                orderService.createOrder(pending.command());
+                pending.result().complete(null);
+            } catch (RuntimeException e) {
+                pending.result().completeExceptionally(e);
+            }
+        }
+    }
+}
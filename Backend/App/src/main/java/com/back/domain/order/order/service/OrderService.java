@@ -2,23 +2,35 @@ package com.back.domain.order.order.service;
 
 import com.back.domain.order.customer.entity.Customer;
 import com.back.domain.order.customer.repository.CustomerRepository;
+import com.back.domain.order.customer.service.CustomerService;
 import com.back.domain.order.menu.entity.Menu;
 import com.back.domain.order.menu.repository.MenuRepository;
+import com.back.domain.order.order.dto.OrderCursor;
 import com.back.domain.order.order.dto.OrderDto;
+import com.back.domain.order.order.dto.OrderHistoryRow;
+import com.back.domain.order.order.dto.OrderItemRow;
+import com.back.domain.order.order.dto.OrderPageRow;
 import com.back.domain.order.order.entity.Order;
 import com.back.domain.order.order.repository.OrderRepository;
-import com.back.domain.order.orderitem.entity.OrderItem;
 import com.back.domain.order.orderitem.repository.OrderItemRepository;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 
 @Service
@@ -26,80 +38,228 @@ import java.util.Map;
 public class OrderService {
 
     private final CustomerRepository customerRepository;
+    private final CustomerService customerService;
     private final OrderRepository orderRepository;
     private final MenuRepository menuRepository;
     private final OrderItemRepository orderItemRepository;
+    private final OrderIdempotencyService orderIdempotencyService;
+    private final OrderCreateMetrics orderCreateMetrics;
 
     @Transactional
     public void createOrder(OrderDto.CreateRequest request) {
-        Customer customer = customerRepository.findByEmail(request.email())
-                .orElseGet(() -> customerRepository.save(
-                        new Customer(request.email())
-                ));
-
-        Order order = new Order(
-                customer,
-                LocalDateTime.now(),
-                request.address(),
-                request.postcode()
-        );
-        orderRepository.save(order);
+        createOrder(new OrderDto.CreateCommand(request));
+    }
 
-        for (OrderDto.OrderItemRequest itemRequest : request.items()) {
-            Menu menu = menuRepository.findById(itemRequest.menuId())
-                    .orElseThrow(() -> new IllegalArgumentException(
-                            "존재하지 않는 메뉴입니다: " + itemRequest.menuId()
-                    ));
+    @Transactional
+    public void createOrder(OrderDto.CreateCommand command) {
+        orderCreateMetrics.timeCommit();
+
+        // 요청된 메뉴를 한 번의 쿼리로 조회 (존재하지 않는 메뉴는 한꺼번에 보고)
+        Map<Long, Menu> menuMap = orderCreateMetrics.validate(() -> findMenuMap(command.request().items()));
+
+        persistOrder(command, menuMap, resolveCustomerId(command.request().email()));
+    }
+
+    // 여러 주문을 하나의 트랜잭션으로 저장 (group commit). 하나라도 실패하면 전체가 롤백된다
+    @Transactional
+    public void createOrders(List<OrderDto.CreateCommand> commands) {
+        orderCreateMetrics.timeCommit();
 
-            OrderItem orderItem = new OrderItem(
-                    order,
-                    menu,
-                    itemRequest.count()
+        List<OrderDto.OrderItemRequest> allItems = commands.stream()
+                .flatMap(command -> command.request().items().stream())
+                .toList();
+
+        Map<Long, Menu> menuMap = orderCreateMetrics.validate(() -> findMenuMap(allItems));
+
+        // 고객 upsert 는 네이티브 쿼리라 Hibernate 가 그 전에 flush 한다
+        // 주문을 저장하기 전에 고객 id 를 모두 얻어 두어야 주문/주문 상품 insert 가 flush 시점에 한 batch 로 묶인다
+        Map<String, Long> customerIds = new HashMap<>();
+        for (OrderDto.CreateCommand command : commands) {
+            customerIds.computeIfAbsent(command.request().email(), this::resolveCustomerId);
+        }
+
+        for (OrderDto.CreateCommand command : commands) {
+            persistOrder(command, menuMap, customerIds.get(command.request().email()));
+        }
+    }
+
+    // 존재하지 않는 메뉴 id 조회 (주문 접수 단계의 사전 검증용)
+    @Transactional(readOnly = true)
+    public Set<Long> findMissingMenuIds(Collection<Long> menuIds) {
+        Set<Long> existingIds = new HashSet<>();
+        for (Menu menu : menuRepository.findAllById(menuIds)) {
+            existingIds.add(menu.getId());
+        }
+
+        Set<Long> missingIds = new LinkedHashSet<>(menuIds);
+        missingIds.removeAll(existingIds);
+        return missingIds;
+    }
+
+    // 이메일 → 고객 id 는 캐시 또는 upsert 한 번으로 얻는다
+    private long resolveCustomerId(String email) {
+        return orderCreateMetrics.customer(() -> customerService.resolveCustomerId(email));
+    }
+
+    private void persistOrder(OrderDto.CreateCommand command, Map<Long, Menu> menuMap, long customerId) {
+        OrderDto.CreateRequest request = command.request();
+
+        // 고객 엔티티는 프록시로만 참조
+        Customer customer = customerRepository.getReferenceById(customerId);
+
+        Order order = orderCreateMetrics.assemble(() -> {
+            Order assembled = new Order(
+                    customer,
+                    LocalDateTime.now(),
+                    request.address(),
+                    request.postcode()
             );
-            orderItemRepository.save(orderItem);
+
+            for (OrderDto.OrderItemRequest itemRequest : request.items()) {
+                assembled.addOrderItem(menuMap.get(itemRequest.menuId()), itemRequest.count());
+            }
+            return assembled;
+        });
+
+        // 주문 상품은 Order.orderItems 의 cascade 로 함께 저장
+        orderCreateMetrics.persist(() -> orderRepository.save(order));
+
+        // 같은 트랜잭션에서 Idempotency-Key 저장 (중복 키면 커밋 시 unique 제약 위반으로 주문까지 롤백)
+        if (command.idempotencyKey() != null) {
+            orderCreateMetrics.idempotency(() -> orderIdempotencyService.record(
+                    command.idempotencyKey(),
+                    request,
+                    order.getId(),
+                    OrderDto.CreateResponse.SUCCESS
+            ));
+        }
+    }
+
+    private Map<Long, Menu> findMenuMap(List<OrderDto.OrderItemRequest> items) {
+        Set<Long> menuIds = new LinkedHashSet<>();
+        for (OrderDto.OrderItemRequest itemRequest : items) {
+            menuIds.add(itemRequest.menuId());
+        }
+
+        Map<Long, Menu> menuMap = new HashMap<>();
+        for (Menu menu : menuRepository.findAllById(menuIds)) {
+            menuMap.put(menu.getId(), menu);
         }
+
+        List<Long> missingIds = menuIds.stream()
+                .filter(id -> !menuMap.containsKey(id))
+                .toList();
+
+        if (!missingIds.isEmpty()) {
+            throw missingMenuException(missingIds);
+        }
+
+        return menuMap;
+    }
+
+    public static IllegalArgumentException missingMenuException(Collection<Long> missingIds) {
+        return new IllegalArgumentException(
+                "존재하지 않는 메뉴입니다: " + missingIds.stream()
+                        .map(String::valueOf)
+                        .collect(Collectors.joining(", "))
+        );
     }
 
     @Transactional(readOnly = true)
     public OrderDto.OrderListResponse getOrderList(@NotNull String email) {
-        // email을 기준으로 해당 고객의 주문 상품 목록 조회
-        List<OrderItem> orderItemList = orderItemRepository.findByOrderCustomerEmail(email);
+        // email을 기준으로 해당 고객의 주문 상품 목록을 프로젝션으로 한 번에 조회 (주문 id 순 정렬)
+        List<OrderHistoryRow> rows = orderItemRepository.findHistoryRowsByEmail(email);
 
-        if (orderItemList.isEmpty()) {
+        if (rows.isEmpty()) {
             // 주문 내역이 없으면 빈 리스트를 반환
             return new OrderDto.OrderListResponse(email, List.of());
         }
 
         // 주문(주소/우편번호)별로 OrderItemDTO 리스트를 그룹핑
-        Map<Order, List<OrderDto.OrderItemDTO>> orderMap = new LinkedHashMap<>();
+        Map<Long, OrderDto.OrderSummary> orderMap = new LinkedHashMap<>();
 
-        for (OrderItem orderItem : orderItemList) {
-            Order order = orderItem.getOrder();
+        for (OrderHistoryRow row : rows) {
             orderMap
-                    .computeIfAbsent(order, o -> new ArrayList<>())
+                    .computeIfAbsent(row.orderId(), id -> new OrderDto.OrderSummary(
+                            row.address(),
+                            row.postcode(),
+                            new ArrayList<>()
+                    ))
+                    .items()
                     .add(new OrderDto.OrderItemDTO(
-                            orderItem.getMenu().getMenuName(),
-                            orderItem.getMenu().getMenuPrice(),
-                            orderItem.getCount()
+                            row.menuName(),
+                            row.menuPrice(),
+                            row.count()
                     ));
         }
 
-        List<OrderDto.OrderSummary> summaries = new ArrayList<>();
-        for (Map.Entry<Order, List<OrderDto.OrderItemDTO>> entry : orderMap.entrySet()) {
-            Order order = entry.getKey();
-            List<OrderDto.OrderItemDTO> items = entry.getValue();
-
-            summaries.add(new OrderDto.OrderSummary(
-                    order.getAddress(),
-                    order.getPostcode(),
-                    items
-            ));
-        }
-
         // 이메일 기준 전체 주문 묶음 반환
         return new OrderDto.OrderListResponse(
                 email,
-                summaries
+                new ArrayList<>(orderMap.values())
         );
     }
-}
\ No newline at end of file
+
+    @Transactional(readOnly = true)
+    public OrderDto.OrderPageResponse getOrderPage(OrderDto.OrderPageRequest request) {
+        Customer customer = customerRepository.findByEmail(request.email()).orElse(null);
+        if (customer == null) {
+            return new OrderDto.OrderPageResponse(request.email(), List.of(), null);
+        }
+
+        int size = request.pageSize();
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        Pageable limit = PageRequest.of(0, size + 1);
+
+        List<OrderPageRow> rows;
+        if (request.cursor() == null || request.cursor().isBlank()) {
+            rows = orderRepository.findOrderPage(customer.getId(), limit);
+        } else {
+            OrderCursor cursor = OrderCursor.decode(request.cursor());
+            rows = orderRepository.findOrderPageAfter(customer.getId(), cursor.orderTime(), cursor.orderId(), limit);
+        }
+
+        boolean hasNext = rows.size() > size;
+        if (hasNext) {
+            rows = rows.subList(0, size);
+        }
+
+        if (rows.isEmpty()) {
+            return new OrderDto.OrderPageResponse(request.email(), List.of(), null);
+        }
+
+        // 현재 페이지 주문들의 상품을 한 번에 조회해 주문 id 별로 묶는다
+        Map<Long, List<OrderDto.OrderItemDTO>> itemMap = new HashMap<>();
+        List<Long> orderIds = rows.stream().map(OrderPageRow::orderId).toList();
+
+        for (OrderItemRow itemRow : orderItemRepository.findItemRowsByOrderIds(orderIds)) {
+            itemMap
+                    .computeIfAbsent(itemRow.orderId(), id -> new ArrayList<>())
+                    .add(new OrderDto.OrderItemDTO(
+                            itemRow.menuName(),
+                            itemRow.menuPrice(),
+                            itemRow.count()
+                    ));
+        }
+
+        List<OrderDto.OrderPageSummary> summaries = new ArrayList<>(rows.size());
+        for (OrderPageRow row : rows) {
+            summaries.add(new OrderDto.OrderPageSummary(
+                    row.orderId(),
+                    row.orderTime(),
+                    row.address(),
+                    row.postcode(),
+                    row.totalCount() == null ? 0 : row.totalCount(),
+                    row.totalPrice() == null ? 0 : row.totalPrice(),
+                    itemMap.getOrDefault(row.orderId(), List.of())
+            ));
+        }
+
+        OrderPageRow last = rows.get(rows.size() - 1);
+        String nextCursor = hasNext
+                ? new OrderCursor(last.orderTime(), last.orderId()).encode()
+                : null;
+
+        return new OrderDto.OrderPageResponse(request.email(), summaries, nextCursor);
+    }
+}
@@ -1,11 +1,43 @@
 package com.back.domain.order.orderitem.repository;
 
+import com.back.domain.order.order.dto.OrderHistoryRow;
+import com.back.domain.order.order.dto.OrderItemRow;
 import com.back.domain.order.orderitem.entity.OrderItem;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
     // 주문 → 고객 → 이메일을 통해 주문 상품 조회
     List<OrderItem> findByOrderCustomerEmail(String email);
-}
\ No newline at end of file
+
+    // 주문 내역 조회 전용: 주문/메뉴를 조인해 필요한 컬럼만 한 번의 쿼리로 조회
+    @Query("""
+            select new com.back.domain.order.order.dto.OrderHistoryRow(
+                o.id, o.address, o.postcode, m.menuName, m.menuPrice, oi.count
+            )
+            from OrderItem oi
+            join oi.order o
+            join o.customer c
+            join oi.menu m
+            where c.email = :email
+            order by o.id, oi.id
+            """)
+    List<OrderHistoryRow> findHistoryRowsByEmail(@Param("email") String email);
+
+    // 주문 id 목록에 해당하는 주문 상품 조회 (페이지 단위 주문 내역용)
+    @Query("""
+            select new com.back.domain.order.order.dto.OrderItemRow(
+                o.id, m.menuName, m.menuPrice, oi.count
+            )
+            from OrderItem oi
+            join oi.order o
+            join oi.menu m
+            where o.id in :orderIds
+            order by oi.id
+            """)
+    List<OrderItemRow> findItemRowsByOrderIds(@Param("orderIds") Collection<Long> orderIds);
+}
@@ -0,0 +1,59 @@
+package com.back.domain.order.shipment.controller;
+
+import com.back.domain.order.shipment.dto.ShipmentBatchResult;
+import com.back.domain.order.shipment.service.ShipmentBatchService;
+import com.back.global.rsData.RsData;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+
+// 테이블 전체에 쓰기 배치를 돌리는데 아직 관리자 인증이 없으므로 기본은 꺼 두고,
+// 접근이 통제된 환경에서만 shipment.batch.api-enabled=true 로 켠다 (꺼져 있으면 404, 스케줄 실행은 그대로 동작)
+@Tag(name = "Shipment Batch API", description = "오후 2시 마감 택배 묶음 배치를 수동 실행/조회하는 운영용 API입니다.")
+@RequestMapping("/api/admin/shipments/batch")
+@RestController
+@ConditionalOnProperty(name = "shipment.batch.api-enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ShipmentBatchController {
+    private final ShipmentBatchService shipmentBatchService;
+
+    @Operation(summary = "택배 묶음 배치 실행", description = "cutoff 를 생략하면 가장 최근 마감 시각 기준으로 실행합니다. 같은 cutoff 로 다시 실행해도 중복 택배가 생기지 않습니다.")
+    @PostMapping
+    public ResponseEntity<RsData<ShipmentBatchResult>> run(
+            @Parameter(description = "마감 시각", example = "2026-10-18T14:00:00")
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            LocalDateTime cutoff
+    ) {
+        LocalDateTime cutoffAt = cutoff != null ? cutoff : shipmentBatchService.latestCutoff(LocalDateTime.now());
+
+        return shipmentBatchService.run(cutoffAt)
+                .map(result -> ResponseEntity.ok(new RsData<>(
+                        "200-1",
+                        "택배 묶음 배치를 실행하였습니다.",
+                        result
+                )))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.CONFLICT).body(new RsData<>(
+                        "409-1",
+                        "택배 묶음 배치가 이미 실행 중입니다."
+                )));
+    }
+
+    @Operation(summary = "마지막 배치 실행 결과", description = "마지막 실행의 구간, 처리 주문 수, 소요 시간을 반환합니다.")
+    @GetMapping("/last")
+    public ResponseEntity<RsData<ShipmentBatchResult>> last() {
+        return ResponseEntity.ok(new RsData<>(
+                "200-1",
+                "마지막 배치 실행 결과입니다.",
+                shipmentBatchService.getLastResult().orElseThrow()
+        ));
+    }
+}
@@ -0,0 +1,15 @@
+package com.back.domain.order.shipment.dto;
+
+import java.time.LocalDateTime;
+
+// 택배 묶음 배치 1회 실행 결과
+public record ShipmentBatchResult(
+        LocalDateTime windowStart,
+        LocalDateTime cutoffAt,
+        int chunks,
+        long ordersProcessed,
+        long shipmentsCreated,
+        long elapsedMillis,
+        LocalDateTime startedAt
+) {
+}
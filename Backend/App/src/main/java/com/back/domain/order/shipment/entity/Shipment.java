@@ -0,0 +1,31 @@
+package com.back.domain.order.shipment.entity;
+
+import com.back.global.jpa.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 마감(cutoff) 시각 기준으로 묶인 택배 1건 (이메일 + 주소 + 우편번호 별)
+@Entity
+@Table(
+        name = "shipment",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_shipment_cutoff_destination",
+                columnNames = {"cutoff_at", "email", "address", "postcode"}
+        )
+)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class Shipment extends BaseEntity {
+
+    // 묶음 구간 [cutoffAt - 1일, cutoffAt) 의 끝
+    private LocalDateTime cutoffAt;
+
+    private String email;
+    private String address;
+    private int postcode;
+
+    private int orderCount;
+}
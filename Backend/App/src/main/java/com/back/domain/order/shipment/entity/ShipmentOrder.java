@@ -0,0 +1,25 @@
+package com.back.domain.order.shipment.entity;
+
+import com.back.domain.order.order.entity.Order;
+import com.back.global.jpa.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import static jakarta.persistence.FetchType.LAZY;
+
+// 택배에 포함된 주문 (주문 1건은 하나의 택배에만 포함된다)
+@Entity
+@Table(name = "shipment_order")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ShipmentOrder extends BaseEntity {
+
+    @ManyToOne(fetch = LAZY)
+    @JoinColumn(name = "shipment_id")
+    private Shipment shipment;
+
+    @ManyToOne(fetch = LAZY)
+    @JoinColumn(name = "order_id", unique = true)
+    private Order order;
+}
@@ -0,0 +1,140 @@
+package com.back.domain.order.shipment.repository;
+
+import com.back.global.jpa.id.TimeOrderedIds;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+// 택배 묶음 배치 전용 JDBC 접근
+// 엔티티를 거치지 않고 chunk 단위 multi-row batch insert 로 처리한다
+@Repository
+public class ShipmentBatchRepository {
+
+    public record PendingOrder(long orderId, String email, String address, int postcode) {
+        public Destination destination() {
+            return new Destination(email, address, postcode);
+        }
+    }
+
+    public record Destination(String email, String address, int postcode) {
+    }
+
+    public record ShipmentOrderLink(long shipmentId, long orderId) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ShipmentBatchRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // 구간 내 주문 중 아직 택배에 포함되지 않은 주문을 id 순으로 limit 개 조회
+    public List<PendingOrder> findPendingOrders(LocalDateTime from, LocalDateTime to, long afterOrderId, int limit) {
+        return jdbcTemplate.query("""
+                        select o.id, c.email, o.address, o.postcode
+                        from orders o
+                        join customer c on c.id = o.customer_id
+                        where o.order_time >= ? and o.order_time < ?
+                          and o.id > ?
+                          and not exists (select 1 from shipment_order so where so.order_id = o.id)
+                        order by o.id
+                        limit ?
+                        """,
+                (rs, rowNum) -> new PendingOrder(
+                        rs.getLong(1),
+                        rs.getString(2),
+                        rs.getString(3),
+                        rs.getInt(4)
+                ),
+                Timestamp.valueOf(from),
+                Timestamp.valueOf(to),
+                afterOrderId,
+                limit
+        );
+    }
+
+    public long countShipments(LocalDateTime cutoffAt) {
+        Long count = jdbcTemplate.queryForObject(
+                "select count(*) from shipment where cutoff_at = ?",
+                Long.class,
+                Timestamp.valueOf(cutoffAt)
+        );
+        return count == null ? 0 : count;
+    }
+
+    // 이미 있는 택배(같은 cutoff + 배송지)는 건너뛴다
+    public void insertShipmentsIfAbsent(LocalDateTime cutoffAt, Collection<Destination> destinations) {
+        Timestamp cutoff = Timestamp.valueOf(cutoffAt);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        List<Object[]> args = new ArrayList<>(destinations.size());
+        for (Destination destination : destinations) {
+            args.add(new Object[]{
+                    TimeOrderedIds.next(), cutoff, destination.email(), destination.address(), destination.postcode(), now, now
+            });
+        }
+
+        jdbcTemplate.batchUpdate("""
+                insert ignore into shipment (id, cutoff_at, email, address, postcode, order_count, create_date, modify_date)
+                values (?, ?, ?, ?, ?, 0, ?, ?)
+                """, args);
+    }
+
+    // 주문별로 들어갈 택배를 DB 에서 찾는다
+    // 배송지 비교를 unique 키(uk_shipment_cutoff_destination)와 같은 컬럼 collation 에 맡기므로,
+    // 대소문자/악센트만 다른 배송지("Apt 3B" / "apt 3b")도 insert ignore 가 남긴 같은 택배로 연결된다
+    public List<ShipmentOrderLink> findShipmentLinks(LocalDateTime cutoffAt, Collection<Long> orderIds) {
+        List<Object> args = new ArrayList<>(orderIds.size() + 1);
+        args.add(Timestamp.valueOf(cutoffAt));
+        args.addAll(orderIds);
+
+        String placeholders = String.join(", ", Collections.nCopies(orderIds.size(), "?"));
+
+        return jdbcTemplate.query("""
+                        select s.id, o.id
+                        from orders o
+                        join customer c on c.id = o.customer_id
+                        join shipment s on s.cutoff_at = ?
+                                       and s.email = c.email
+                                       and s.address = o.address
+                                       and s.postcode = o.postcode
+                        where o.id in (%s)
+                        """.formatted(placeholders),
+                (rs, rowNum) -> new ShipmentOrderLink(rs.getLong(1), rs.getLong(2)),
+                args.toArray()
+        );
+    }
+
+    // 같은 주문이 두 번 묶이지 않도록 order_id unique 제약에 맡긴다
+    public void insertShipmentOrders(List<ShipmentOrderLink> links) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        List<Object[]> args = new ArrayList<>(links.size());
+        for (ShipmentOrderLink link : links) {
+            args.add(new Object[]{TimeOrderedIds.next(), link.shipmentId(), link.orderId(), now, now});
+        }
+
+        jdbcTemplate.batchUpdate("""
+                insert ignore into shipment_order (id, shipment_id, order_id, create_date, modify_date)
+                values (?, ?, ?, ?, ?)
+                """, args);
+    }
+
+    public int refreshOrderCounts(LocalDateTime cutoffAt) {
+        return jdbcTemplate.update("""
+                        update shipment s
+                        set s.order_count = (select count(*) from shipment_order so where so.shipment_id = s.id),
+                            s.modify_date = ?
+                        where s.cutoff_at = ?
+                        """,
+                Timestamp.valueOf(LocalDateTime.now()),
+                Timestamp.valueOf(cutoffAt)
+        );
+    }
+}
@@ -0,0 +1,145 @@
+package com.back.domain.order.shipment.service;
+
+import com.back.domain.order.shipment.dto.ShipmentBatchResult;
+import com.back.domain.order.shipment.repository.ShipmentBatchRepository;
+import com.back.domain.order.shipment.repository.ShipmentBatchRepository.Destination;
+import com.back.domain.order.shipment.repository.ShipmentBatchRepository.PendingOrder;
+import com.back.domain.order.shipment.repository.ShipmentBatchRepository.ShipmentOrderLink;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 오후 2시 마감 택배 묶음 배치
+// 전날 마감 ~ 오늘 마감 사이의 주문을 (이메일, 주소, 우편번호) 별로 하나의 택배로 묶는다
+// - 주문은 chunkSize 개씩 읽어 chunk 마다 별도 트랜잭션으로 batch insert
+// - 이미 묶인 주문은 건너뛰므로 같은 마감 시각으로 다시 실행해도 결과가 같다
+@Slf4j
+@Service
+public class ShipmentBatchService {
+
+    private final ShipmentBatchRepository shipmentBatchRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final LocalTime cutoffTime;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile ShipmentBatchResult lastResult;
+
+    public ShipmentBatchService(
+            ShipmentBatchRepository shipmentBatchRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${shipment.batch.chunk-size:1000}") int chunkSize,
+            @Value("${shipment.cutoff-time:14:00}") String cutoffTime
+    ) {
+        this.shipmentBatchRepository = shipmentBatchRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.cutoffTime = LocalTime.parse(cutoffTime);
+    }
+
+    @Scheduled(cron = "${shipment.batch.cron:0 5 14 * * *}")
+    public void runScheduled() {
+        if (run(latestCutoff(LocalDateTime.now())).isEmpty()) {
+            log.warn("이전 택배 묶음 배치가 아직 실행 중이라 이번 실행을 건너뜁니다.");
+        }
+    }
+
+    // now 이전의 가장 최근 마감 시각
+    public LocalDateTime latestCutoff(LocalDateTime now) {
+        LocalDateTime todayCutoff = now.toLocalDate().atTime(cutoffTime);
+        return now.isBefore(todayCutoff) ? todayCutoff.minusDays(1) : todayCutoff;
+    }
+
+    public Optional<ShipmentBatchResult> getLastResult() {
+        return Optional.ofNullable(lastResult);
+    }
+
+    // 이미 실행 중이면 실행하지 않고 빈 값을 반환
+    public Optional<ShipmentBatchResult> run(LocalDateTime cutoffAt) {
+        if (!running.compareAndSet(false, true)) {
+            return Optional.empty();
+        }
+
+        try {
+            ShipmentBatchResult result = doRun(cutoffAt);
+            lastResult = result;
+
+            log.info("택배 묶음 배치 완료: 구간=[{}, {}), chunk={}, 주문={}, 신규 택배={}, {}ms",
+                    result.windowStart(), result.cutoffAt(), result.chunks(),
+                    result.ordersProcessed(), result.shipmentsCreated(), result.elapsedMillis());
+            return Optional.of(result);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private ShipmentBatchResult doRun(LocalDateTime cutoffAt) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long start = System.nanoTime();
+        LocalDateTime windowStart = cutoffAt.minusDays(1);
+
+        long shipmentsBefore = shipmentBatchRepository.countShipments(cutoffAt);
+
+        long afterOrderId = 0;
+        int chunks = 0;
+        long ordersProcessed = 0;
+
+        while (true) {
+            List<PendingOrder> chunk = shipmentBatchRepository
+                    .findPendingOrders(windowStart, cutoffAt, afterOrderId, chunkSize);
+            if (chunk.isEmpty()) break;
+
+            transactionTemplate.executeWithoutResult(status -> processChunk(cutoffAt, chunk));
+
+            afterOrderId = chunk.get(chunk.size() - 1).orderId();
+            chunks++;
+            ordersProcessed += chunk.size();
+
+            if (chunk.size() < chunkSize) break;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> shipmentBatchRepository.refreshOrderCounts(cutoffAt));
+
+        long shipmentsCreated = shipmentBatchRepository.countShipments(cutoffAt) - shipmentsBefore;
+
+        return new ShipmentBatchResult(
+                windowStart,
+                cutoffAt,
+                chunks,
+                ordersProcessed,
+                shipmentsCreated,
+                (System.nanoTime() - start) / 1_000_000,
+                startedAt
+        );
+    }
+
+    private void processChunk(LocalDateTime cutoffAt, List<PendingOrder> chunk) {
+        Set<Destination> destinations = new LinkedHashSet<>();
+        List<Long> orderIds = new ArrayList<>(chunk.size());
+        for (PendingOrder order : chunk) {
+            destinations.add(order.destination());
+            orderIds.add(order.orderId());
+        }
+
+        // 배송지 → 택배 매칭은 DB 에 맡긴다 (자바의 정확한 문자열 비교는 unique 키의 collation 과 다를 수 있다)
+        shipmentBatchRepository.insertShipmentsIfAbsent(cutoffAt, destinations);
+        List<ShipmentOrderLink> links = shipmentBatchRepository.findShipmentLinks(cutoffAt, orderIds);
+        if (links.size() != chunk.size()) {
+            throw new IllegalStateException("택배를 찾지 못한 주문이 있습니다: %d / %d".formatted(links.size(), chunk.size()));
+        }
+
+        shipmentBatchRepository.insertShipmentOrders(links);
+    }
+}
@@ -0,0 +1,85 @@
+package com.back.global.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 크기 제한 + TTL 만료를 지원하는 인메모리 캐시
+// 키 해시로 나눈 세그먼트마다 LRU(LinkedHashMap access-order) 를 두어 락 경합을 줄인다
+public class BoundedTtlCache<K, V> {
+
+    private record Entry<V>(V value, long expiresAtNanos) {
+    }
+
+    private final Segment<K, V>[] segments;
+    private final long ttlNanos;
+
+    @SuppressWarnings("unchecked")
+    public BoundedTtlCache(int maxSize, long ttlMillis) {
+        int segmentCount = Math.max(1, Math.min(16, maxSize / 64));
+        int segmentSize = Math.max(1, maxSize / segmentCount);
+
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment<>(segmentSize);
+        }
+        this.ttlNanos = ttlMillis * 1_000_000L;
+    }
+
+    public V get(K key) {
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            Entry<V> entry = segment.get(key);
+            if (entry == null) return null;
+
+            if (entry.expiresAtNanos() - System.nanoTime() <= 0) {
+                segment.remove(key);
+                return null;
+            }
+            return entry.value();
+        }
+    }
+
+    public void put(K key, V value) {
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            segment.put(key, new Entry<>(value, System.nanoTime() + ttlNanos));
+        }
+    }
+
+    public void remove(K key) {
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            segment.remove(key);
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    private Segment<K, V> segmentFor(K key) {
+        int hash = key.hashCode();
+        hash ^= (hash >>> 16);
+        return segments[Math.floorMod(hash, segments.length)];
+    }
+
+    private static class Segment<K, V> extends LinkedHashMap<K, Entry<V>> {
+        private final int maxSize;
+
+        Segment(int maxSize) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+            return size() > maxSize;
+        }
+    }
+}
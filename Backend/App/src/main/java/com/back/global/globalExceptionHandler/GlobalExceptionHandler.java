@@ -11,10 +11,12 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 
 import java.util.Comparator;
 import java.util.NoSuchElementException;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
@@ -68,6 +70,18 @@ public class GlobalExceptionHandler {
         );
     }
 
+    // 503 : SERVICE UNAVAILABLE
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<RsData<Void>> handle(RejectedExecutionException ex) {
+        return new ResponseEntity<>(
+                new RsData<>(
+                        "503-1",
+                        ex.getMessage()
+                ),
+                SERVICE_UNAVAILABLE
+        );
+    }
+
     @ExceptionHandler(HttpMessageNotReadableException.class)
     public ResponseEntity<RsData<Void>> handleException(HttpMessageNotReadableException ex) {
         return new ResponseEntity<>(
@@ -10,6 +10,7 @@ import com.back.domain.order.orderitem.entity.OrderItem;
 import com.back.domain.order.orderitem.repository.OrderItemRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Lazy;
@@ -32,14 +33,30 @@ public class BaseInitData {
     private final MenuRepository menuRepository;
     private final OrderRepository orderRepository;
     private final OrderItemRepository orderItemRepository;
+    private final BulkDataSeeder bulkDataSeeder;
+
+    // true 면 기본 메뉴 3개 대신 init-data.bulk.* 설정만큼 대용량 데이터를 병렬로 생성
+    @Value("${init-data.bulk.enabled:false}")
+    private boolean bulkEnabled;
 
     @Bean
     ApplicationRunner baseInitDataApplicationRunner() {
         return args -> {
+            if (bulkEnabled) {
+                bulkSeed();
+                return;
+            }
             self.work1();
         };
     }
 
+    // 워커 스레드마다 별도 트랜잭션을 쓰므로 @Transactional 없이 실행
+    public void bulkSeed() {
+        if (customerRepository.count() > 0) return;
+
+        bulkDataSeeder.seed(bulkDataSeeder.configuredPlan());
+    }
+
     @Transactional
     public void work1() {
         if (customerRepository.count() > 0) return;
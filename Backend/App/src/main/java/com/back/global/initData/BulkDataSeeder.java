@@ -0,0 +1,301 @@
+package com.back.global.initData;
+
+import com.back.global.jpa.id.TimeOrderedIds;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 대용량 테스트 데이터 생성기 (init-data.bulk.*)
+//
+// - 고객을 CUSTOMERS_PER_CHUNK 단위 청크로 나눠 여러 워커 스레드가 청크별 트랜잭션으로 저장
+// - 청크마다 (seed, 청크 번호) 로 난수를 만들기 때문에 스레드 실행 순서와 무관하게 같은 seed 면 같은 데이터가 생성된다
+// - 기간의 끝(until)도 설정값이고 id 도 생성된 값에서 만들므로, 같은 설정이면 id 까지 같은 데이터가 나온다
+//   주문/주문 상품 id 는 주문 시각(ms) + 청크 번호로, 고객/메뉴 id 는 기간 시작 시각 + 순번(ms)으로 TimeOrderedIds.of 로 만든다
+//   (기간이 오늘 이전이므로 이후 TimeOrderedIds.next() 로 발급되는 실제 id 와 겹치지 않는다)
+// - 운영과 비슷한 쏠림: 고객별 주문 수는 로그정규 분포, 메뉴 선택은 Zipf 분포, 주문당 상품 수는 적을수록 흔하다
+// - insert 는 여러 행을 하나의 문장으로 묶는다 (insert into ... values (...), (...), ...)
+@Slf4j
+@Component
+public class BulkDataSeeder {
+
+    public static final String EMAIL_FORMAT = "seed-%d@test.com";
+
+    private static final int CUSTOMERS_PER_CHUNK = 500;
+    // 청크 번호가 id 의 하위 12bit 에 들어가므로 청크 수 제한
+    private static final int MAX_CHUNKS = TimeOrderedIds.MAX_LOW_BITS + 1;
+    private static final long MIN_ORDER_AGE_MILLIS = 60_000;
+    private static final double ORDER_COUNT_SIGMA = 1.0;
+    private static final double MENU_ZIPF_EXPONENT = 1.1;
+
+    private static final String MENU_COLUMNS = "menu (id, menu_name, img_url, menu_price, category, email, create_date, modify_date)";
+    private static final String CUSTOMER_COLUMNS = "customer (id, email, create_date, modify_date)";
+    private static final String ORDER_COLUMNS = "orders (id, customer_id, order_time, address, postcode, create_date, modify_date)";
+    private static final String ORDER_ITEM_COLUMNS = "order_item (id, order_id, menu_id, count, create_date, modify_date)";
+
+    public record Plan(
+            int customers,
+            int menus,
+            // 고객당 평균 주문 수
+            int ordersPerCustomer,
+            int maxItemsPerOrder,
+            // 주문 시각 분포 범위 (until 0시 기준 과거 일수)
+            LocalDate until,
+            int days,
+            long seed,
+            int workers,
+            int rowsPerInsert
+    ) {
+    }
+
+    public record Report(long menus, long customers, long orders, long orderItems, long elapsedMillis) {
+        public long totalRows() {
+            return menus + customers + orders + orderItems;
+        }
+
+        public long rowsPerSecond() {
+            return elapsedMillis == 0 ? totalRows() : totalRows() * 1000 / elapsedMillis;
+        }
+    }
+
+    private record SeedMenu(long id, int price) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Plan configuredPlan;
+
+    public BulkDataSeeder(
+            DataSource dataSource,
+            PlatformTransactionManager transactionManager,
+            @Value("${init-data.bulk.customers:10000}") int customers,
+            @Value("${init-data.bulk.menus:100}") int menus,
+            @Value("${init-data.bulk.orders-per-customer:10}") int ordersPerCustomer,
+            @Value("${init-data.bulk.max-items-per-order:8}") int maxItemsPerOrder,
+            @Value("${init-data.bulk.until:2026-10-01}") String until,
+            @Value("${init-data.bulk.days:365}") int days,
+            @Value("${init-data.bulk.seed:42}") long seed,
+            @Value("${init-data.bulk.workers:4}") int workers,
+            @Value("${init-data.bulk.rows-per-insert:500}") int rowsPerInsert
+    ) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.configuredPlan = new Plan(
+                customers, menus, ordersPerCustomer, maxItemsPerOrder, LocalDate.parse(until), days, seed, workers, rowsPerInsert);
+    }
+
+    public Plan configuredPlan() {
+        return configuredPlan;
+    }
+
+    public Report seed(Plan plan) {
+        int chunks = (plan.customers() + CUSTOMERS_PER_CHUNK - 1) / CUSTOMERS_PER_CHUNK;
+        if (chunks > MAX_CHUNKS) {
+            throw new IllegalArgumentException("고객 수는 %d 명을 넘을 수 없습니다.".formatted(MAX_CHUNKS * CUSTOMERS_PER_CHUNK));
+        }
+        if (plan.until().isAfter(LocalDate.now())) {
+            throw new IllegalArgumentException("init-data.bulk.until 은 오늘 이후일 수 없습니다: " + plan.until());
+        }
+
+        long start = System.nanoTime();
+        LocalDateTime until = plan.until().atStartOfDay();
+
+        List<SeedMenu> menus = insertMenus(plan, until);
+        double[] menuCdf = zipfCdf(menus.size(), MENU_ZIPF_EXPONENT);
+
+        AtomicLong customers = new AtomicLong();
+        AtomicLong orders = new AtomicLong();
+        AtomicLong orderItems = new AtomicLong();
+
+        try (ExecutorService workers = Executors.newFixedThreadPool(plan.workers())) {
+            List<Future<?>> futures = new ArrayList<>(chunks);
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                int chunkNo = chunk;
+                futures.add(workers.submit(() -> {
+                    seedChunk(plan, chunkNo, menus, menuCdf, until, customers, orders, orderItems);
+
+                    long rows = customers.get() + orders.get() + orderItems.get();
+                    log.info("대용량 데이터 생성 중: 청크 {}/{}, {} rows/s",
+                            chunkNo + 1, chunks, rows * 1_000_000_000 / Math.max(1, System.nanoTime() - start));
+                }));
+            }
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("대용량 데이터 생성이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("대용량 데이터 생성에 실패했습니다.", e.getCause());
+        }
+
+        Report report = new Report(menus.size(), customers.get(), orders.get(), orderItems.get(),
+                (System.nanoTime() - start) / 1_000_000);
+
+        log.info("대용량 데이터 생성 완료: 메뉴 {}, 고객 {}, 주문 {}, 주문 상품 {} ({} ms, {} rows/s)",
+                report.menus(), report.customers(), report.orders(), report.orderItems(),
+                report.elapsedMillis(), report.rowsPerSecond());
+        return report;
+    }
+
+    private List<SeedMenu> insertMenus(Plan plan, LocalDateTime until) {
+        SplittableRandom random = new SplittableRandom(plan.seed());
+        Timestamp now = Timestamp.valueOf(until);
+        long startMillis = startMillis(plan, until);
+
+        List<SeedMenu> menus = new ArrayList<>(plan.menus());
+        List<Object[]> rows = new ArrayList<>(plan.menus());
+        for (int i = 1; i <= plan.menus(); i++) {
+            SeedMenu menu = new SeedMenu(TimeOrderedIds.of(startMillis + i, 0), 5_000 + random.nextInt(200) * 100);
+            menus.add(menu);
+            rows.add(new Object[]{menu.id(), "원두 " + i, null, menu.price(), "커피원두", "seed@test.com", now, now});
+        }
+
+        transactionTemplate.executeWithoutResult(status -> insertRows(MENU_COLUMNS, rows, plan.rowsPerInsert()));
+        return menus;
+    }
+
+    private void seedChunk(
+            Plan plan, int chunkNo, List<SeedMenu> menus, double[] menuCdf, LocalDateTime until,
+            AtomicLong customerCount, AtomicLong orderCount, AtomicLong orderItemCount
+    ) {
+        SplittableRandom random = new SplittableRandom(plan.seed() * 1_000_003 + chunkNo);
+        Timestamp now = Timestamp.valueOf(until);
+        long untilMillis = epochMillis(until);
+        long startMillis = startMillis(plan, until);
+        long rangeMillis = untilMillis - MIN_ORDER_AGE_MILLIS - startMillis;
+
+        // 청크 안에서 같은 ms 의 id 가 겹치면 1ms 씩 밀어서 쓴다 (청크끼리는 하위 bit 의 청크 번호로 구분)
+        Set<Long> usedOrderMillis = new HashSet<>();
+        Set<Long> usedItemMillis = new HashSet<>();
+
+        List<Object[]> customers = new ArrayList<>(CUSTOMERS_PER_CHUNK);
+        List<Object[]> orders = new ArrayList<>();
+        List<Object[]> orderItems = new ArrayList<>();
+
+        int from = chunkNo * CUSTOMERS_PER_CHUNK;
+        int to = Math.min(from + CUSTOMERS_PER_CHUNK, plan.customers());
+        for (int c = from; c < to; c++) {
+            long customerId = TimeOrderedIds.of(startMillis + c, 0);
+            customers.add(new Object[]{customerId, EMAIL_FORMAT.formatted(c), now, now});
+
+            String address = "서울시 강남구 테헤란로 " + (1 + random.nextInt(500));
+            int postcode = 10_000 + random.nextInt(90_000);
+
+            int customerOrders = orderCount(plan.ordersPerCustomer(), random);
+            for (int o = 0; o < customerOrders; o++) {
+                long orderMillis = untilMillis - MIN_ORDER_AGE_MILLIS - random.nextLong(rangeMillis);
+                while (!usedOrderMillis.add(orderMillis)) orderMillis++;
+
+                long orderId = TimeOrderedIds.of(orderMillis, chunkNo);
+                Timestamp orderTime = new Timestamp(orderMillis);
+                orders.add(new Object[]{orderId, customerId, orderTime, address, postcode, orderTime, orderTime});
+
+                int items = itemCount(plan.maxItemsPerOrder(), random);
+                for (int i = 0; i < items; i++) {
+                    SeedMenu menu = menus.get(sample(menuCdf, random));
+                    long itemMillis = orderMillis;
+                    while (!usedItemMillis.add(itemMillis)) itemMillis++;
+                    orderItems.add(new Object[]{TimeOrderedIds.of(itemMillis, chunkNo), orderId, menu.id(), 1 + random.nextInt(3), orderTime, orderTime});
+                }
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            insertRows(CUSTOMER_COLUMNS, customers, plan.rowsPerInsert());
+            insertRows(ORDER_COLUMNS, orders, plan.rowsPerInsert());
+            insertRows(ORDER_ITEM_COLUMNS, orderItems, plan.rowsPerInsert());
+        });
+
+        customerCount.addAndGet(customers.size());
+        orderCount.addAndGet(orders.size());
+        orderItemCount.addAndGet(orderItems.size());
+    }
+
+    // 주문 시각 범위의 시작 (고객/메뉴 id 의 기준 시각)
+    private static long startMillis(Plan plan, LocalDateTime until) {
+        return epochMillis(until.minusDays(plan.days())) - MIN_ORDER_AGE_MILLIS;
+    }
+
+    private static long epochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    // rowsPerInsert 행씩 묶어 multi-row insert 실행
+    private void insertRows(String table, List<Object[]> rows, int rowsPerInsert) {
+        if (rows.isEmpty()) return;
+
+        int columns = rows.getFirst().length;
+        String fullSql = multiRowInsert(table, columns, rowsPerInsert);
+
+        for (int from = 0; from < rows.size(); from += rowsPerInsert) {
+            int count = Math.min(rowsPerInsert, rows.size() - from);
+            String sql = count == rowsPerInsert ? fullSql : multiRowInsert(table, columns, count);
+
+            Object[] args = new Object[count * columns];
+            for (int i = 0; i < count; i++) {
+                System.arraycopy(rows.get(from + i), 0, args, i * columns, columns);
+            }
+            jdbcTemplate.update(sql, args);
+        }
+    }
+
+    private static String multiRowInsert(String table, int columns, int rows) {
+        String placeholders = "(" + String.join(", ", Collections.nCopies(columns, "?")) + ")";
+        return "insert into " + table + " values " + String.join(", ", Collections.nCopies(rows, placeholders));
+    }
+
+    // 평균이 mean 인 로그정규 분포 (대부분 적게, 일부 고객은 아주 많이 주문)
+    private static int orderCount(int mean, SplittableRandom random) {
+        double value = mean * Math.exp(ORDER_COUNT_SIGMA * random.nextGaussian() - ORDER_COUNT_SIGMA * ORDER_COUNT_SIGMA / 2);
+        return Math.max(1, (int) Math.round(value));
+    }
+
+    // 1개가 가장 흔하고 개수가 늘수록 절반씩 줄어드는 분포
+    private static int itemCount(int max, SplittableRandom random) {
+        int count = 1;
+        while (count < max && random.nextBoolean()) {
+            count++;
+        }
+        return count;
+    }
+
+    private static double[] zipfCdf(int size, double exponent) {
+        double[] cdf = new double[size];
+        double sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += 1 / Math.pow(i + 1, exponent);
+            cdf[i] = sum;
+        }
+        for (int i = 0; i < size; i++) {
+            cdf[i] /= sum;
+        }
+        return cdf;
+    }
+
+    private static int sample(double[] cdf, SplittableRandom random) {
+        int idx = Arrays.binarySearch(cdf, random.nextDouble());
+        return Math.min(idx >= 0 ? idx : -idx - 1, cdf.length - 1);
+    }
+}
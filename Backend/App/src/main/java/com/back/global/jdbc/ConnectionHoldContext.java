@@ -0,0 +1,100 @@
+package com.back.global.jdbc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// 요청 하나가 JDBC 커넥션을 잡고 있던 시간 / SQL 실행 시간 집계 (요청 스레드의 ThreadLocal)
+// ConnectionHoldProfilingFilter 가 요청마다 만들고, ConnectionHoldTrackingDataSource 가 채운다
+public final class ConnectionHoldContext {
+
+    private static final ThreadLocal<ConnectionHoldContext> CURRENT = new ThreadLocal<>();
+
+    private long holdNanos;
+    private long sqlNanos;
+    private int connectionCount;
+    private long longestHoldNanos;
+    private String longestHoldStack;
+    private final List<Hold> openHolds = new ArrayList<>();
+
+    // 커넥션 하나의 대여 정보
+    public static final class Hold {
+        private final long acquiredAt = System.nanoTime();
+        private final String acquireStack;
+
+        private Hold(String acquireStack) {
+            this.acquireStack = acquireStack;
+        }
+
+        public String acquireStack() {
+            return acquireStack;
+        }
+
+        public long heldNanos() {
+            return System.nanoTime() - acquiredAt;
+        }
+    }
+
+    static ConnectionHoldContext begin() {
+        ConnectionHoldContext context = new ConnectionHoldContext();
+        CURRENT.set(context);
+        return context;
+    }
+
+    static ConnectionHoldContext current() {
+        return CURRENT.get();
+    }
+
+    void end() {
+        CURRENT.remove();
+    }
+
+    Hold acquired(String acquireStack) {
+        Hold hold = new Hold(acquireStack);
+        openHolds.add(hold);
+        connectionCount++;
+        return hold;
+    }
+
+    void released(Hold hold) {
+        if (!openHolds.remove(hold)) return;
+
+        long held = hold.heldNanos();
+        holdNanos += held;
+        if (held > longestHoldNanos) {
+            longestHoldNanos = held;
+            longestHoldStack = hold.acquireStack;
+        }
+    }
+
+    void executed(long nanos) {
+        sqlNanos += nanos;
+    }
+
+    public long holdNanos() {
+        return holdNanos;
+    }
+
+    public long sqlNanos() {
+        return sqlNanos;
+    }
+
+    public int connectionCount() {
+        return connectionCount;
+    }
+
+    public String longestHoldStack() {
+        return longestHoldStack;
+    }
+
+    // 요청이 끝났는데 반납되지 않은 커넥션
+    public List<Hold> openHolds() {
+        return List.copyOf(openHolds);
+    }
+
+    static String format(List<StackWalker.StackFrame> frames) {
+        return frames.stream()
+                .map(frame -> "\tat " + frame.toStackTraceElement())
+                .collect(Collectors.joining("\n"));
+    }
+}
@@ -0,0 +1,48 @@
+package com.back.global.jdbc;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+// app.datasource.hold-profiler.enabled=true 이면 요청별 커넥션 점유 시간을 측정한다 (기본 꺼짐)
+// 측정하는 요청은 커넥션 대여마다 스택을 훑고 프록시를 만들므로 sample-rate 비율의 요청만 측정한다
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.hold-profiler.enabled", havingValue = "true")
+public class ConnectionHoldProfilerConfig {
+
+    @Bean
+    static BeanPostProcessor connectionHoldTrackingDataSourcePostProcessor(
+            @Value("${app.datasource.hold-profiler.stack-depth:15}") int stackDepth
+    ) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConnectionHoldTrackingDataSource)) {
+                    return new ConnectionHoldTrackingDataSource(dataSource, stackDepth);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<ConnectionHoldProfilingFilter> connectionHoldProfilingFilter(
+            MeterRegistry meterRegistry,
+            @Value("${app.datasource.hold-profiler.threshold-ms:100}") long thresholdMillis,
+            @Value("${app.datasource.hold-profiler.sample-rate:0.01}") double sampleRate
+    ) {
+        FilterRegistrationBean<ConnectionHoldProfilingFilter> registration = new FilterRegistrationBean<>(
+                new ConnectionHoldProfilingFilter(meterRegistry, thresholdMillis, sampleRate));
+        registration.addUrlPatterns("/api/*");
+        // 다른 필터에서 쓰는 커넥션까지 포함하도록 가장 먼저 실행
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
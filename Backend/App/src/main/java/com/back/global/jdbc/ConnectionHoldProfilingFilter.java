@@ -0,0 +1,89 @@
+package com.back.global.jdbc;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// 요청별 DB 커넥션 점유 시간 / SQL 실행 시간을 라우트별 메트릭으로 남기고,
+// 점유 시간이 threshold 를 넘거나 반납되지 않은 커넥션이 있으면 대여 위치와 함께 경고한다
+// sample-rate 비율의 요청만 측정한다 (측정하지 않는 요청은 컨텍스트가 없어 DataSource 가 커넥션을 그대로 돌려준다)
+//
+// db.connection.hold{route}    : 요청 하나가 커넥션을 잡고 있던 시간 합계
+// db.connection.sql{route}     : 그중 SQL 을 실행한 시간 합계 (차이가 클수록 커넥션을 잡은 채 다른 일을 한 것)
+@Slf4j
+public class ConnectionHoldProfilingFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final long thresholdNanos;
+    private final double sampleRate;
+
+    public ConnectionHoldProfilingFilter(MeterRegistry meterRegistry, long thresholdMillis, double sampleRate) {
+        this.meterRegistry = meterRegistry;
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (sampleRate < 1 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        ConnectionHoldContext context = ConnectionHoldContext.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            context.end();
+            report(request, context);
+        }
+    }
+
+    private void report(HttpServletRequest request, ConnectionHoldContext context) {
+        if (context.connectionCount() == 0) return;
+
+        String route = route(request);
+
+        for (ConnectionHoldContext.Hold hold : context.openHolds()) {
+            log.warn("connection_leak route=\"{}\" held_ms={} 요청이 끝났지만 커넥션이 반납되지 않았습니다. 대여 위치:\n{}",
+                    route, TimeUnit.NANOSECONDS.toMillis(hold.heldNanos()), hold.acquireStack());
+        }
+
+        timer("db.connection.hold", "요청별 DB 커넥션 점유 시간", route).record(context.holdNanos(), TimeUnit.NANOSECONDS);
+        timer("db.connection.sql", "요청별 SQL 실행 시간", route).record(context.sqlNanos(), TimeUnit.NANOSECONDS);
+
+        if (context.holdNanos() >= thresholdNanos) {
+            log.warn("long_connection_hold route=\"{}\" hold_ms={} sql_ms={} connections={} 가장 오래 잡은 커넥션 대여 위치:\n{}",
+                    route,
+                    TimeUnit.NANOSECONDS.toMillis(context.holdNanos()),
+                    TimeUnit.NANOSECONDS.toMillis(context.sqlNanos()),
+                    context.connectionCount(),
+                    context.longestHoldStack());
+        }
+    }
+
+    private Timer timer(String name, String description, String route) {
+        return Timer.builder(name)
+                .description(description)
+                .tag("route", route)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    // 매핑된 URI 패턴 (/api/menu/modify/{id}) 기준, 매핑 전 단계에서 끝났으면 UNKNOWN
+    private static String route(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : "UNKNOWN");
+    }
+}
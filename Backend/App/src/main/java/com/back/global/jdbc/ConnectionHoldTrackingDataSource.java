@@ -0,0 +1,113 @@
+package com.back.global.jdbc;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 요청 처리 중 빌려간 커넥션의 대여 시간, SQL 실행 시간, 대여 위치(스택)를 ConnectionHoldContext 에 기록
+// 요청 컨텍스트가 없는 스레드(배치, 비동기 스트리밍 등)의 커넥션은 그대로 통과시킨다
+public class ConnectionHoldTrackingDataSource extends DelegatingDataSource {
+
+    // 대여 위치는 애플리케이션 코드 프레임만 남긴다
+    private static final String APP_PACKAGE = "com.back.";
+
+    private final int stackDepth;
+
+    public ConnectionHoldTrackingDataSource(DataSource target, int stackDepth) {
+        super(target);
+        this.stackDepth = stackDepth;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return track(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return track(super.getConnection(username, password));
+    }
+
+    private Connection track(Connection target) {
+        ConnectionHoldContext context = ConnectionHoldContext.current();
+        if (context == null) return target;
+
+        ConnectionHoldContext.Hold hold = context.acquired(acquireStack());
+        AtomicBoolean closed = new AtomicBoolean();
+
+        return (Connection) Proxy.newProxyInstance(
+                ConnectionHoldTrackingDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "close" -> {
+                            try {
+                                return invoke(method, target, args);
+                            } finally {
+                                if (closed.compareAndSet(false, true)) context.released(hold);
+                            }
+                        }
+                        case "unwrap" -> {
+                            if (args[0] == Connection.class) return proxy;
+                        }
+                        case "prepareStatement" -> {
+                            return timeStatement(invoke(method, target, args), PreparedStatement.class, context);
+                        }
+                        case "prepareCall" -> {
+                            return timeStatement(invoke(method, target, args), CallableStatement.class, context);
+                        }
+                        case "createStatement" -> {
+                            return timeStatement(invoke(method, target, args), Statement.class, context);
+                        }
+                        default -> {
+                        }
+                    }
+                    return invoke(method, target, args);
+                }
+        );
+    }
+
+    private static Object timeStatement(Object target, Class<? extends Statement> type, ConnectionHoldContext context) {
+        return Proxy.newProxyInstance(
+                ConnectionHoldTrackingDataSource.class.getClassLoader(),
+                new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    if (!method.getName().startsWith("execute")) {
+                        return invoke(method, target, args);
+                    }
+
+                    long start = System.nanoTime();
+                    try {
+                        return invoke(method, target, args);
+                    } finally {
+                        context.executed(System.nanoTime() - start);
+                    }
+                }
+        );
+    }
+
+    private String acquireStack() {
+        return ConnectionHoldContext.format(StackWalker.getInstance().walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith(APP_PACKAGE)
+                        && !frame.getClassName().startsWith(ConnectionHoldTrackingDataSource.class.getPackageName()))
+                .limit(stackDepth)
+                .toList()));
+    }
+
+    private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
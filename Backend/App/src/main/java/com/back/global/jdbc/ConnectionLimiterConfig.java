@@ -0,0 +1,32 @@
+package com.back.global.jdbc;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+// app.datasource.connection-limiter.enabled=true 이면 DataSource 를 ConnectionLimitingDataSource 로 감싼다
+// (가상 스레드 모드인 virtual 프로필에서 사용)
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.connection-limiter.enabled", havingValue = "true")
+public class ConnectionLimiterConfig {
+
+    @Bean
+    static BeanPostProcessor connectionLimitingDataSourcePostProcessor(
+            @Value("${app.datasource.connection-limiter.max-connections:${spring.datasource.hikari.maximum-pool-size:10}}") int maxConnections,
+            @Value("${app.datasource.connection-limiter.acquire-timeout-ms:30000}") long acquireTimeoutMillis
+    ) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConnectionLimitingDataSource)) {
+                    return new ConnectionLimitingDataSource(dataSource, maxConnections, acquireTimeoutMillis);
+                }
+                return bean;
+            }
+        };
+    }
+}
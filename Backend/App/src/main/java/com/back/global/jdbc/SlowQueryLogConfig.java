@@ -0,0 +1,32 @@
+package com.back.global.jdbc;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+// app.datasource.slow-query.enabled=true(기본) 이면 DataSource 를 SlowQueryLoggingDataSource 로 감싼다
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.slow-query.enabled", havingValue = "true", matchIfMissing = true)
+public class SlowQueryLogConfig {
+
+    @Bean
+    static BeanPostProcessor slowQueryLoggingDataSourcePostProcessor(
+            @Value("${app.datasource.slow-query.threshold-ms:200}") long thresholdMillis,
+            @Value("${app.datasource.slow-query.sample-rate:0.001}") double sampleRate,
+            @Value("${app.datasource.slow-query.max-sql-length:2000}") int maxSqlLength
+    ) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof SlowQueryLoggingDataSource)) {
+                    return new SlowQueryLoggingDataSource(dataSource, thresholdMillis, sampleRate, maxSqlLength);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,177 @@
+package com.back.global.jdbc;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+// 느린 SQL 만 기록하는 DataSource (show-sql / TRACE 바인딩 로그 대체)
+// - threshold 이상: WARN 으로 SQL + 바인딩 값 기록
+// - threshold 미만: sample-rate 확률로 INFO 에 SQL 만 기록 (바인딩 값 없음)
+// 로그는 key=value 한 줄 형식이라 검색/집계하기 쉽다
+@Slf4j
+public class SlowQueryLoggingDataSource extends DelegatingDataSource {
+
+    private static final int MAX_BIND_LENGTH = 100;
+
+    private final long thresholdNanos;
+    private final double sampleRate;
+    private final int maxSqlLength;
+
+    public SlowQueryLoggingDataSource(DataSource target, long thresholdMillis, double sampleRate, int maxSqlLength) {
+        super(target);
+        this.thresholdNanos = thresholdMillis * 1_000_000;
+        this.sampleRate = sampleRate;
+        this.maxSqlLength = maxSqlLength;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrapConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrapConnection(super.getConnection(username, password));
+    }
+
+    private Connection wrapConnection(Connection target) {
+        return (Connection) Proxy.newProxyInstance(
+                SlowQueryLoggingDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("unwrap") && args != null && args[0] == Connection.class) {
+                        return proxy;
+                    }
+
+                    Object result = invoke(method, target, args);
+                    return switch (method.getName()) {
+                        case "prepareStatement" -> wrapStatement(result, PreparedStatement.class, (String) args[0]);
+                        case "prepareCall" -> wrapStatement(result, CallableStatement.class, (String) args[0]);
+                        case "createStatement" -> wrapStatement(result, Statement.class, null);
+                        default -> result;
+                    };
+                }
+        );
+    }
+
+    private Object wrapStatement(Object target, Class<? extends Statement> type, String preparedSql) {
+        StatementState state = new StatementState(preparedSql);
+
+        return Proxy.newProxyInstance(
+                SlowQueryLoggingDataSource.class.getClassLoader(),
+                new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    String name = method.getName();
+
+                    if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                        state.bind(index, name.equals("setNull") ? null : args[1]);
+                    } else if (name.equals("clearParameters")) {
+                        state.clearBinds();
+                    } else if (name.equals("addBatch")) {
+                        state.batchSize++;
+                        if (args != null && args.length == 1 && state.sql == null) state.sql = (String) args[0];
+                    } else if (name.startsWith("execute")) {
+                        String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : state.sql;
+                        long start = System.nanoTime();
+                        try {
+                            return invoke(method, target, args);
+                        } finally {
+                            record(sql, state, System.nanoTime() - start, name.endsWith("Batch"));
+                        }
+                    }
+                    return invoke(method, target, args);
+                }
+        );
+    }
+
+    private void record(String sql, StatementState state, long elapsedNanos, boolean batch) {
+        int batchSize = state.batchSize;
+        if (batch) state.batchSize = 0;
+
+        if (elapsedNanos >= thresholdNanos) {
+            if (log.isWarnEnabled()) {
+                log.warn("slow_query elapsed_ms={} batch_size={} sql=\"{}\" binds={}",
+                        elapsedNanos / 1_000_000, batchSize, normalize(sql), state.bindsToString());
+            }
+        } else if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            if (log.isInfoEnabled()) {
+                log.info("sampled_query elapsed_ms={} batch_size={} sql=\"{}\"",
+                        elapsedNanos / 1_000_000, batchSize, normalize(sql));
+            }
+        }
+    }
+
+    // 공백을 한 칸으로 줄이고 max-sql-length 로 자른다
+    private String normalize(String sql) {
+        if (sql == null) return "";
+
+        String normalized = sql.replaceAll("\\s+", " ").trim();
+        return normalized.length() > maxSqlLength
+                ? normalized.substring(0, maxSqlLength) + "..."
+                : normalized;
+    }
+
+    private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    // Statement 하나의 SQL, 바인딩 값 (batch 면 마지막 행), batch 크기
+    private static class StatementState {
+        private String sql;
+        private Object[] binds = new Object[0];
+        private int bindCount;
+        private int batchSize;
+
+        StatementState(String sql) {
+            this.sql = sql;
+        }
+
+        void bind(int index, Object value) {
+            if (index > binds.length) {
+                binds = Arrays.copyOf(binds, Math.max(index, binds.length * 2));
+            }
+            binds[index - 1] = value;
+            bindCount = Math.max(bindCount, index);
+        }
+
+        void clearBinds() {
+            Arrays.fill(binds, null);
+            bindCount = 0;
+        }
+
+        String bindsToString() {
+            StringBuilder sb = new StringBuilder("[");
+            for (int i = 0; i < bindCount; i++) {
+                if (i > 0) sb.append(", ");
+                sb.append(render(binds[i]));
+            }
+            return sb.append(']').toString();
+        }
+
+        private static String render(Object value) {
+            if (value == null) return "null";
+            if (value instanceof byte[] bytes) return "<" + bytes.length + " bytes>";
+            if (value instanceof InputStream || value instanceof Reader) return "<stream>";
+
+            String text = value.toString();
+            return text.length() > MAX_BIND_LENGTH ? text.substring(0, MAX_BIND_LENGTH) + "..." : text;
+        }
+    }
+}
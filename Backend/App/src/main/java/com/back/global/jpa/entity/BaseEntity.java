@@ -1,7 +1,7 @@
 package com.back.global.jpa.entity;
 
+import com.back.global.jpa.id.TimeOrderedId;
 import jakarta.persistence.EntityListeners;
-import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.MappedSuperclass;
 import lombok.Getter;
@@ -11,15 +11,14 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
 
-import static jakarta.persistence.GenerationType.IDENTITY;
-
 @MappedSuperclass
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 public abstract class BaseEntity {
 
+    // IDENTITY 는 insert 마다 DB 왕복이 필요해 batch insert 가 꺼지므로 애플리케이션에서 발급
     @Id
-    @GeneratedValue(strategy = IDENTITY)
+    @TimeOrderedId
     private long id;
 
     @CreatedDate
@@ -0,0 +1,18 @@
+package com.back.global.jpa.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+public class TimeOrderedIdGenerator implements IdentifierGenerator {
+
+    public TimeOrderedIdGenerator() {
+    }
+
+    public TimeOrderedIdGenerator(TimeOrderedId config) {
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return TimeOrderedIds.next();
+    }
+}
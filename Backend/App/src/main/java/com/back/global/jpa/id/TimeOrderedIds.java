@@ -0,0 +1,88 @@
+package com.back.global.jpa.id;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 시간 순으로 증가하는 노드 로컬 id 발급기 (DB 왕복 없음)
+//
+// | 41bit: 2020-01-01 기준 경과 ms | 4bit: 노드 번호 | 8bit: 같은 ms 내 순번 |
+//
+// - 전체 53bit 이므로 JavaScript Number 로도 정확히 표현된다 (프론트엔드에서 menu_id 등을 그대로 사용)
+// - 노드 번호는 시스템 프로퍼티 app.node-id 또는 환경 변수 APP_NODE_ID (0 ~ 15, 기본 0)
+//   여러 인스턴스가 모두 기본값 0 을 쓰면 같은 ms 에 같은 id 가 나올 수 있으므로, 설정이 없으면 경고를 남긴다
+// - 같은 ms 에 256개를 넘기거나 시계가 뒤로 가면 다음 ms 를 미리 당겨 쓰므로 항상 증가한다
+// - 기준 시각을 과거로 잡아 두어 대용량 시드 데이터처럼 과거 시각의 id 도 of() 로 만들 수 있다 (2089년까지)
+@Slf4j
+public final class TimeOrderedIds {
+
+    private static final long EPOCH_MILLIS = Instant.parse("2020-01-01T00:00:00Z").toEpochMilli();
+
+    private static final int NODE_BITS = 4;
+    private static final int SEQUENCE_BITS = 8;
+    private static final long MAX_NODE = (1L << NODE_BITS) - 1;
+    private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+    public static final int MAX_LOW_BITS = (1 << (NODE_BITS + SEQUENCE_BITS)) - 1;
+
+    private static final long NODE_ID = resolveNodeId();
+
+    // (경과 ms << SEQUENCE_BITS) | 순번
+    private static final AtomicLong STATE = new AtomicLong();
+
+    private TimeOrderedIds() {
+    }
+
+    public static long next() {
+        while (true) {
+            long prev = STATE.get();
+            long lastMillis = prev >>> SEQUENCE_BITS;
+            long sequence = prev & MAX_SEQUENCE;
+            long nowMillis = System.currentTimeMillis() - EPOCH_MILLIS;
+
+            long next;
+            if (nowMillis > lastMillis) {
+                next = nowMillis << SEQUENCE_BITS;
+            } else if (sequence < MAX_SEQUENCE) {
+                next = prev + 1;
+            } else {
+                next = (lastMillis + 1) << SEQUENCE_BITS;
+            }
+
+            if (STATE.compareAndSet(prev, next)) {
+                long millis = next >>> SEQUENCE_BITS;
+                return (millis << (NODE_BITS + SEQUENCE_BITS))
+                        | (NODE_ID << SEQUENCE_BITS)
+                        | (next & MAX_SEQUENCE);
+            }
+        }
+    }
+
+    // 주어진 시각의 id. 노드 번호 + 순번 자리(12bit)를 lowBits 로 채운다
+    // 같은 입력이면 항상 같은 id 가 나오므로 재현 가능한 시드 데이터에 쓴다 (시각 + lowBits 의 유일성은 호출자가 보장)
+    public static long of(long epochMillis, int lowBits) {
+        long millis = epochMillis - EPOCH_MILLIS;
+        if (millis < 0) {
+            throw new IllegalArgumentException("id 로 표현할 수 없는 시각입니다: " + Instant.ofEpochMilli(epochMillis));
+        }
+        if (lowBits < 0 || lowBits > MAX_LOW_BITS) {
+            throw new IllegalArgumentException("lowBits 는 0 ~ " + MAX_LOW_BITS + " 사이여야 합니다: " + lowBits);
+        }
+        return (millis << (NODE_BITS + SEQUENCE_BITS)) | lowBits;
+    }
+
+    private static long resolveNodeId() {
+        String value = System.getProperty("app.node-id", System.getenv("APP_NODE_ID"));
+        if (value == null || value.isBlank()) {
+            log.warn("app.node-id(APP_NODE_ID) 가 설정되지 않아 노드 번호 0 을 사용합니다. "
+                    + "인스턴스를 여러 개 띄우면 id 가 충돌할 수 있으니 인스턴스마다 다른 값(0 ~ {})을 설정하세요.", MAX_NODE);
+            return 0;
+        }
+
+        long nodeId = Long.parseLong(value.trim());
+        if (nodeId < 0 || nodeId > MAX_NODE) {
+            throw new IllegalStateException("app.node-id 는 0 ~ " + MAX_NODE + " 사이여야 합니다: " + nodeId);
+        }
+        return nodeId;
+    }
+}
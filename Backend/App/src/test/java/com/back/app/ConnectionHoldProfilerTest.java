@@ -0,0 +1,139 @@
+package com.back.app;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.back.global.jdbc.ConnectionHoldProfilingFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 대여 위치(스택)에서 com.back.global.jdbc 프레임은 빠지므로, 테스트 컨트롤러가 스택에 남도록 이 패키지에 둔다
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "app.datasource.hold-profiler.enabled=true",
+        "app.datasource.hold-profiler.sample-rate=1",
+        "app.datasource.hold-profiler.threshold-ms=0"
+})
+@AutoConfigureMockMvc
+@Import(ConnectionHoldProfilerTest.HoldTestController.class)
+public class ConnectionHoldProfilerTest {
+
+    private static final String QUERY_ROUTE = "GET /api/test/connection-hold/query";
+    private static final String LEAK_ROUTE = "GET /api/test/connection-hold/leak";
+
+    // 반납하지 않은 커넥션은 테스트가 끝난 뒤 풀에 돌려준다
+    private static final List<Connection> leaked = new CopyOnWriteArrayList<>();
+
+    @RestController
+    static class HoldTestController {
+        private final JdbcTemplate jdbcTemplate;
+        private final DataSource dataSource;
+
+        HoldTestController(JdbcTemplate jdbcTemplate, DataSource dataSource) {
+            this.jdbcTemplate = jdbcTemplate;
+            this.dataSource = dataSource;
+        }
+
+        @GetMapping("/api/test/connection-hold/query")
+        public int query() {
+            return jdbcTemplate.queryForObject("select 1", Integer.class);
+        }
+
+        @GetMapping("/api/test/connection-hold/leak")
+        public String leak() throws SQLException {
+            leaked.add(dataSource.getConnection());
+            return "leaked";
+        }
+    }
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final ListAppender<ILoggingEvent> logs = new ListAppender<>();
+    private final Logger filterLogger = (Logger) LoggerFactory.getLogger(ConnectionHoldProfilingFilter.class);
+
+    @BeforeEach
+    void setup() {
+        logs.start();
+        filterLogger.addAppender(logs);
+    }
+
+    @AfterEach
+    void cleanup() throws SQLException {
+        filterLogger.detachAppender(logs);
+        for (Connection connection : leaked) {
+            connection.close();
+        }
+        leaked.clear();
+    }
+
+    private Timer timer(String name, String route) {
+        return meterRegistry.find(name).tag("route", route).timer();
+    }
+
+    private long count(String name, String route) {
+        Timer timer = timer(name, route);
+        return timer != null ? timer.count() : 0;
+    }
+
+    @Test
+    @DisplayName("커넥션을 쓴 요청은 라우트별 db.connection.hold / db.connection.sql 타이머에 기록된다")
+    void recordsHoldAndSqlTimers() throws Exception {
+        long holdBefore = count("db.connection.hold", QUERY_ROUTE);
+        long sqlBefore = count("db.connection.sql", QUERY_ROUTE);
+
+        mvc.perform(get("/api/test/connection-hold/query"))
+                .andExpect(status().isOk());
+
+        assertThat(count("db.connection.hold", QUERY_ROUTE)).isEqualTo(holdBefore + 1);
+        assertThat(count("db.connection.sql", QUERY_ROUTE)).isEqualTo(sqlBefore + 1);
+        assertThat(timer("db.connection.hold", QUERY_ROUTE).totalTime(TimeUnit.NANOSECONDS))
+                .isGreaterThanOrEqualTo(timer("db.connection.sql", QUERY_ROUTE).totalTime(TimeUnit.NANOSECONDS));
+
+        // threshold-ms=0 이므로 대여 위치와 함께 경고한다
+        assertThat(logs.list).anySatisfy(event -> assertThat(event.getFormattedMessage())
+                .startsWith("long_connection_hold route=\"" + QUERY_ROUTE + "\"")
+                .contains(HoldTestController.class.getName()));
+        assertThat(logs.list).noneSatisfy(event -> assertThat(event.getFormattedMessage()).startsWith("connection_leak"));
+    }
+
+    @Test
+    @DisplayName("요청이 끝날 때까지 반납하지 않은 커넥션은 대여 위치와 함께 connection_leak 으로 경고한다")
+    void warnsAboutLeakedConnection() throws Exception {
+        mvc.perform(get("/api/test/connection-hold/leak"))
+                .andExpect(status().isOk());
+
+        assertThat(leaked).hasSize(1);
+        assertThat(logs.list).anySatisfy(event -> assertThat(event.getFormattedMessage())
+                .startsWith("connection_leak route=\"" + LEAK_ROUTE + "\"")
+                .contains(HoldTestController.class.getName() + ".leak"));
+    }
+}
@@ -0,0 +1,164 @@
+package com.back.domain.file.controller;
+
+import com.back.domain.file.entity.ImageFile;
+import com.back.domain.file.repository.ImageFileRepository;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.endsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = "file.upload-dir=build/test-uploads")
+@AutoConfigureMockMvc
+public class FileUploadControllerTest {
+
+    private static final Path UPLOAD_DIR = Path.of("build/test-uploads");
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private ImageFileRepository imageFileRepository;
+
+    @Test
+    @DisplayName("이미지 업로드 - 파일 내용으로 형식을 판별한다")
+    void uploadImage_DetectsFormatFromContent() throws Exception {
+        BufferedImage image = new BufferedImage(32, 32, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", png);
+
+        // 클라이언트가 보낸 Content-Type / 확장자와 무관하게 PNG 로 저장
+        MockMultipartFile file = new MockMultipartFile("file", "photo.jpg", "image/jpeg", png.toByteArray());
+
+        mvc.perform(multipart("/api/upload/image").file(file))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.contentType").value("image/png"))
+                .andExpect(jsonPath("$.filename").value(endsWith(".png")))
+                .andExpect(jsonPath("$.variants.thumb").exists());
+    }
+
+    @Test
+    @DisplayName("이미지 업로드 - 축소본(thumb/card/detail)이 긴 변 기준 크기로 JPEG 파일로 생성된다")
+    void uploadImage_WritesVariants() throws Exception {
+        // 긴 변이 가장 큰 축소본(1080)의 2배 이상이라 원본을 건너뛰며(subsampling) 읽는 경로를 탄다
+        BufferedImage image = new BufferedImage(2400, 1200, BufferedImage.TYPE_INT_RGB);
+        image.setRGB(0, 0, (int) System.nanoTime()); // 이전 실행의 파일과 중복되지 않도록
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", png);
+
+        String response = mvc.perform(multipart("/api/upload/image")
+                        .file(new MockMultipartFile("file", "large.png", "image/png", png.toByteArray())))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertVariant(JsonPath.read(response, "$.variants.thumb"), 160, 80);
+        assertVariant(JsonPath.read(response, "$.variants.card"), 480, 240);
+        assertVariant(JsonPath.read(response, "$.variants.detail"), 1080, 540);
+    }
+
+    // 축소본은 백그라운드에서 만들어지므로 파일이 생길 때까지 기다린다
+    private void assertVariant(String url, int width, int height) throws Exception {
+        Path file = UPLOAD_DIR.resolve(url.substring(url.indexOf("/uploads/") + "/uploads/".length()));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!Files.exists(file)) {
+            assertThat(System.nanoTime()).as("축소본이 생성되지 않음: %s", file).isLessThan(deadline);
+            Thread.sleep(50);
+        }
+
+        assertThat(file.getFileName().toString()).endsWith(".jpg");
+        BufferedImage variant = ImageIO.read(file.toFile());
+        assertThat(variant.getWidth()).isEqualTo(width);
+        assertThat(variant.getHeight()).isEqualTo(height);
+    }
+
+    @Test
+    @DisplayName("이미지 업로드 - 같은 내용을 다시 올리면 기존 파일(URL)을 돌려준다")
+    void uploadImage_DeduplicatesByContent() throws Exception {
+        BufferedImage image = new BufferedImage(40, 24, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", png);
+        String sha256 = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(png.toByteArray()));
+        String path = sha256.substring(0, 2) + "/" + sha256.substring(2, 4) + "/" + sha256 + ".png";
+
+        mvc.perform(multipart("/api/upload/image")
+                        .file(new MockMultipartFile("file", "a.png", "image/png", png.toByteArray())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.filename").value(path));
+
+        mvc.perform(multipart("/api/upload/image")
+                        .file(new MockMultipartFile("file", "b.png", "image/png", png.toByteArray())))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.filename").value(path))
+                .andExpect(jsonPath("$.deduplicated").value(true));
+
+        ImageFile metadata = imageFileRepository.findBySha256(sha256).orElseThrow();
+        assertThat(metadata.getWidth()).isEqualTo(40);
+        assertThat(metadata.getHeight()).isEqualTo(24);
+        assertThat(metadata.getMimeType()).isEqualTo("image/png");
+    }
+
+    @Test
+    @DisplayName("이미지 업로드 - 중복 업로드인데 축소본이 빠져 있으면 다시 생성한다")
+    void uploadImage_RegeneratesMissingVariantsOnDuplicate() throws Exception {
+        BufferedImage image = new BufferedImage(64, 32, BufferedImage.TYPE_INT_RGB);
+        image.setRGB(0, 0, (int) System.nanoTime()); // 이전 실행의 파일과 중복되지 않도록
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", png);
+        MockMultipartFile file = new MockMultipartFile("file", "a.png", "image/png", png.toByteArray());
+
+        String first = mvc.perform(multipart("/api/upload/image").file(file))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        String thumbUrl = JsonPath.read(first, "$.variants.thumb");
+        assertVariant(thumbUrl, 64, 32);
+
+        // 대기열 초과 등으로 축소본 하나가 만들어지지 않은 상태
+        Files.delete(UPLOAD_DIR.resolve(thumbUrl.substring(thumbUrl.indexOf("/uploads/") + "/uploads/".length())));
+
+        mvc.perform(multipart("/api/upload/image").file(file))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deduplicated").value(true))
+                .andExpect(jsonPath("$.variants.thumb").value(thumbUrl));
+
+        assertVariant(thumbUrl, 64, 32);
+    }
+
+    @Test
+    @DisplayName("이미지 업로드 - Content-Type 이 image 여도 내용이 이미지가 아니면 400")
+    void uploadImage_RejectsNonImageContent() throws Exception {
+        MockMultipartFile file = new MockMultipartFile(
+                "file", "fake.png", "image/png", "not an image".getBytes(StandardCharsets.UTF_8));
+
+        mvc.perform(multipart("/api/upload/image").file(file))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("이미지 파일만 업로드 가능합니다"));
+    }
+}
@@ -0,0 +1,87 @@
+package com.back.domain.file.controller;
+
+import com.back.domain.file.service.ImageStorageService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = "file.upload-dir=build/test-uploads")
+@AutoConfigureMockMvc
+public class ImageServeControllerTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private ImageStorageService imageStorageService;
+
+    private String writeFile(String name, byte[] content) throws Exception {
+        Path file = imageStorageService.uploadRoot().resolve(name);
+        Files.createDirectories(file.getParent());
+        Files.write(file, content);
+        return "/uploads/" + name;
+    }
+
+    @Test
+    @DisplayName("이미지 제공 - immutable 캐시 헤더와 ETag, 같은 ETag 로 다시 요청하면 304")
+    void serveImage_ConditionalRequest() throws Exception {
+        String url = writeFile("serve-test.png", new byte[]{1, 2, 3, 4});
+
+        String etag = mvc.perform(get(url))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "public, max-age=31536000, immutable"))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                // 파일 수정 시각이 아니라 (내용 해시인) 파일명에서 만든다
+                .andExpect(header().string(HttpHeaders.ETAG, "\"serve-test.png\""))
+                .andExpect(content().contentType("image/png"))
+                .andExpect(content().bytes(new byte[]{1, 2, 3, 4}))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andDo(print())
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("이미지 제공 - Range 요청은 206, 범위를 벗어나면 416")
+    void serveImage_RangeRequest() throws Exception {
+        String url = writeFile("range-test.png", new byte[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9});
+
+        mvc.perform(get(url).header(HttpHeaders.RANGE, "bytes=2-5"))
+                .andDo(print())
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-5/10"))
+                .andExpect(content().bytes(new byte[]{2, 3, 4, 5}));
+
+        mvc.perform(get(url).header(HttpHeaders.RANGE, "bytes=-3"))
+                .andExpect(status().isPartialContent())
+                .andExpect(content().bytes(new byte[]{7, 8, 9}));
+
+        mvc.perform(get(url).header(HttpHeaders.RANGE, "bytes=20-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */10"));
+    }
+
+    @Test
+    @DisplayName("이미지 제공 - 업로드 디렉토리 밖이나 임시 파일은 404")
+    void serveImage_RejectsHiddenPaths() throws Exception {
+        writeFile(".tmp/upload-hidden.part", new byte[]{1});
+
+        mvc.perform(get("/uploads/.tmp/upload-hidden.part"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,158 @@
+package com.back.domain.file.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Random;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = "file.upload-dir=build/test-uploads")
+@AutoConfigureMockMvc
+public class UploadSessionControllerTest {
+
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    @Autowired
+    private MockMvc mvc;
+
+    // 압축이 잘 안 되는 무작위 픽셀로 청크 2개 이상 크기의 PNG 를 만든다
+    private static byte[] largePng(long seed) throws Exception {
+        BufferedImage image = new BufferedImage(200, 200, BufferedImage.TYPE_INT_RGB);
+        Random random = new Random(seed);
+        for (int y = 0; y < 200; y++) {
+            for (int x = 0; x < 200; x++) {
+                image.setRGB(x, y, random.nextInt(0xFFFFFF));
+            }
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+
+    private String createSession(byte[] content, String sha256) throws Exception {
+        String body = mvc.perform(post("/api/upload/sessions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"size": %d, "sha256": "%s", "chunkSize": %d}
+                                """.formatted(content.length, sha256, CHUNK_SIZE)))
+                .andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data.totalChunks").value((content.length + CHUNK_SIZE - 1) / CHUNK_SIZE))
+                .andReturn().getResponse().getContentAsString();
+        return JsonPath.read(body, "$.data.sessionId");
+    }
+
+    private byte[] chunk(byte[] content, int index) {
+        return Arrays.copyOfRange(content, index * CHUNK_SIZE, Math.min(content.length, (index + 1) * CHUNK_SIZE));
+    }
+
+    @Test
+    @DisplayName("청크 업로드 - 순서와 무관하게 받은 뒤 체크섬을 확인하고 저장한다")
+    void uploadInChunks() throws Exception {
+        byte[] content = largePng(1);
+        String sha256 = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        String sessionId = createSession(content, sha256);
+
+        mvc.perform(put("/api/upload/sessions/{id}/chunks/{index}", sessionId, 1)
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .content(chunk(content, 1)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.missingChunks", contains(0)));
+
+        // 빠진 청크가 있으면 완료할 수 없다
+        mvc.perform(post("/api/upload/sessions/{id}/complete", sessionId))
+                .andExpect(status().isBadRequest());
+
+        mvc.perform(put("/api/upload/sessions/{id}/chunks/{index}", sessionId, 0)
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .content(chunk(content, 0)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.missingChunks", empty()));
+
+        mvc.perform(post("/api/upload/sessions/{id}/complete", sessionId))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.sha256").value(sha256))
+                .andExpect(jsonPath("$.data.contentType").value("image/png"));
+
+        // 완료된 세션은 더 이상 쓸 수 없다
+        mvc.perform(get("/api/upload/sessions/{id}", sessionId))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("청크 업로드 - 받은 청크의 재전송이 중간에 끊기면 그 청크만 다시 받으면 된다")
+    void uploadInChunks_InterruptedRetry() throws Exception {
+        byte[] content = largePng(3);
+        String sha256 = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        String sessionId = createSession(content, sha256);
+
+        for (int index = 0; index * CHUNK_SIZE < content.length; index++) {
+            mvc.perform(put("/api/upload/sessions/{id}/chunks/{index}", sessionId, index)
+                            .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                            .content(chunk(content, index)))
+                    .andExpect(status().isOk());
+        }
+
+        // 청크 0 재전송이 절반만 도착 (앞부분은 다른 바이트로 덮어써짐)
+        byte[] truncated = new byte[CHUNK_SIZE / 2];
+        mvc.perform(put("/api/upload/sessions/{id}/chunks/{index}", sessionId, 0)
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .content(truncated))
+                .andExpect(status().isBadRequest());
+
+        mvc.perform(get("/api/upload/sessions/{id}", sessionId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.missingChunks", contains(0)));
+
+        mvc.perform(put("/api/upload/sessions/{id}/chunks/{index}", sessionId, 0)
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .content(chunk(content, 0)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.missingChunks", empty()));
+
+        mvc.perform(post("/api/upload/sessions/{id}/complete", sessionId))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.sha256").value(sha256));
+    }
+
+    @Test
+    @DisplayName("청크 업로드 - 체크섬이 다르면 400")
+    void uploadInChunks_ChecksumMismatch() throws Exception {
+        byte[] content = largePng(2);
+        String sessionId = createSession(content, "0".repeat(64));
+
+        for (int index = 0; index * CHUNK_SIZE < content.length; index++) {
+            mvc.perform(put("/api/upload/sessions/{id}/chunks/{index}", sessionId, index)
+                            .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                            .content(chunk(content, index)))
+                    .andExpect(status().isOk());
+        }
+
+        mvc.perform(post("/api/upload/sessions/{id}/complete", sessionId))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("파일 체크섬이 일치하지 않습니다"));
+    }
+}
@@ -0,0 +1,202 @@
+package com.back.domain.file.service;
+
+import com.back.domain.file.dto.ImageGcResult;
+import com.back.domain.file.entity.ImageFile;
+import com.back.domain.file.repository.ImageFileRepository;
+import com.back.domain.file.repository.ImageMaintenanceRepository;
+import com.back.domain.order.menu.entity.Menu;
+import com.back.domain.order.menu.repository.MenuRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.util.FileSystemUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+// 실제 파일/DB 행을 두고 GC 와 샤드 이전을 실행한다 (트랜잭션 없이 실행해 커밋 여부까지 확인)
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "file.upload-dir=build/test-gc-uploads",
+        "file.gc.grace-period=1h"
+})
+public class ImageMaintenanceTest {
+
+    @Autowired
+    private ImageGarbageCollector imageGarbageCollector;
+
+    @Autowired
+    private ImageLayoutMigrator imageLayoutMigrator;
+
+    @Autowired
+    private ImageStorageService imageStorageService;
+
+    @Autowired
+    private ImageFileRepository imageFileRepository;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @MockitoSpyBean
+    private ImageMaintenanceRepository imageMaintenanceRepository;
+
+    private final List<Long> menuIds = new ArrayList<>();
+    private final List<Long> imageFileIds = new ArrayList<>();
+
+    @BeforeEach
+    void cleanUploadDir() throws Exception {
+        FileSystemUtils.deleteRecursively(imageStorageService.uploadRoot());
+        Files.createDirectories(imageStorageService.uploadRoot());
+    }
+
+    @AfterEach
+    void cleanRows() {
+        menuRepository.deleteAllById(menuIds);
+        imageFileRepository.deleteAllById(imageFileIds);
+    }
+
+    private static String randomSha256() {
+        byte[] bytes = new byte[32];
+        ThreadLocalRandom.current().nextBytes(bytes);
+        return HexFormat.of().formatHex(bytes);
+    }
+
+    private Path writeFile(String relativePath, int size) throws Exception {
+        Path file = imageStorageService.uploadRoot().resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        Files.write(file, new byte[size]);
+        return file;
+    }
+
+    private void saveImageFile(String sha256, String filename, long size, LocalDateTime lastUsedAt) {
+        imageFileIds.add(imageFileRepository.save(
+                new ImageFile(sha256, filename, "image/png", size, 10, 10, lastUsedAt)).getId());
+    }
+
+    @Test
+    @DisplayName("이미지 GC - 참조되지 않은 원본/축소본과 메타데이터를 지우고 회수한 바이트를 보고한다")
+    void collectsUnreferencedImages() throws Exception {
+        String kept = randomSha256();
+        String orphan = randomSha256();
+        String keptPath = ImageStorageService.shardedPath(kept + ".png");
+        String orphanPath = ImageStorageService.shardedPath(orphan + ".png");
+
+        Path keptFile = writeFile(keptPath, 100);
+        Path keptThumb = writeFile(ImageStorageService.shardedPath(kept + "_thumb.jpg"), 30);
+        Path orphanFile = writeFile(orphanPath, 200);
+        Path orphanThumb = writeFile(ImageStorageService.shardedPath(orphan + "_thumb.jpg"), 50);
+        saveImageFile(kept, keptPath, 100, LocalDateTime.now());
+        saveImageFile(orphan, orphanPath, 200, LocalDateTime.now());
+
+        menuIds.add(menuRepository.save(new Menu(
+                "GC 테스트 메뉴", "http://localhost:8080/uploads/" + keptPath, 1000, "커피원두", "gc@test.com")).getId());
+
+        // 유예 기간이 지난 시점으로 실행
+        ImageGcResult result = imageGarbageCollector.run(Instant.now().plus(Duration.ofHours(2))).orElseThrow();
+
+        assertThat(keptFile).exists();
+        assertThat(keptThumb).exists();
+        assertThat(orphanFile).doesNotExist();
+        assertThat(orphanThumb).doesNotExist();
+
+        assertThat(result.filesScanned()).isEqualTo(4);
+        assertThat(result.filesDeleted()).isEqualTo(2);
+        assertThat(result.bytesReclaimed()).isEqualTo(250);
+
+        assertThat(imageFileRepository.findBySha256(kept)).isPresent();
+        assertThat(imageFileRepository.findBySha256(orphan)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이미지 GC - 유예 기간 안의 파일은 참조되지 않아도 남긴다")
+    void keepsRecentImages() throws Exception {
+        String recent = randomSha256();
+        Path recentFile = writeFile(ImageStorageService.shardedPath(recent + ".png"), 100);
+
+        ImageGcResult result = imageGarbageCollector.run(Instant.now()).orElseThrow();
+
+        assertThat(recentFile).exists();
+        assertThat(result.filesDeleted()).isZero();
+    }
+
+    @Test
+    @DisplayName("이미지 GC - 파일은 오래됐어도 최근 다시 업로드된 이미지(last_used_at)는 남긴다")
+    void keepsRecentlyReuploadedImages() throws Exception {
+        String reused = randomSha256();
+        String path = ImageStorageService.shardedPath(reused + ".png");
+        Path file = writeFile(path, 100);
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().minus(Duration.ofDays(3))));
+        saveImageFile(reused, path, 100, LocalDateTime.now());
+
+        ImageGcResult result = imageGarbageCollector.run(Instant.now()).orElseThrow();
+
+        assertThat(file).exists();
+        assertThat(result.filesDeleted()).isZero();
+    }
+
+    @Test
+    @DisplayName("이미지 GC - 최근 사용 목록을 읽은 뒤 같은 내용이 다시 업로드되면 삭제 직전 재확인으로 남긴다")
+    void keepsImagesReuploadedDuringRun() throws Exception {
+        byte[] png = new byte[100];
+        System.arraycopy(new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'}, 0, png, 0, 8);
+
+        String sha256 = randomSha256();
+        String path = ImageStorageService.shardedPath(sha256 + ".png");
+        Path file = imageStorageService.uploadRoot().resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.write(file, png);
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().minus(Duration.ofDays(3))));
+        saveImageFile(sha256, path, png.length, LocalDateTime.now().minusDays(3));
+
+        // GC 가 최근 사용 목록을 다 읽은 직후, 파일을 훑기 전에 같은 내용이 다시 업로드된다
+        doAnswer(invocation -> {
+            invocation.callRealMethod();
+            Path temp = Files.write(Files.createTempFile(imageStorageService.tempDir(), "upload-", ".part"), png);
+            try {
+                assertThat(imageStorageService.commit(temp, sha256, png.length).deduplicated()).isTrue();
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            return null;
+        }).when(imageMaintenanceRepository).streamRecentlyUsedImages(any(LocalDateTime.class), any(Consumer.class));
+
+        ImageGcResult result = imageGarbageCollector.run(Instant.now()).orElseThrow();
+
+        assertThat(file).exists();
+        assertThat(result.filesDeleted()).isZero();
+        assertThat(imageFileRepository.findBySha256(sha256)).isPresent();
+    }
+
+    @Test
+    @DisplayName("샤드 이전 - 최상위 파일을 ab/cd/ 아래로 옮기고 메타데이터 경로를 바꾼다")
+    void migratesFlatFiles() throws Exception {
+        String sha256 = randomSha256();
+        Path flatFile = writeFile(sha256 + ".png", 100);
+        saveImageFile(sha256, sha256 + ".png", 100, LocalDateTime.now());
+
+        imageLayoutMigrator.run(null);
+
+        String sharded = ImageStorageService.shardedPath(sha256 + ".png");
+        assertThat(flatFile).doesNotExist();
+        assertThat(imageStorageService.uploadRoot().resolve(sharded)).exists();
+        assertThat(imageFileRepository.findBySha256(sha256).orElseThrow().getFilename()).isEqualTo(sharded);
+    }
+}
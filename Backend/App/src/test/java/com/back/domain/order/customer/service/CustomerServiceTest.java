@@ -0,0 +1,78 @@
+package com.back.domain.order.customer.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 각 스레드가 자기 트랜잭션을 커밋해야 하므로 클래스에 @Transactional 을 붙이지 않고 직접 정리한다
+@ActiveProfiles("test")
+@SpringBootTest
+public class CustomerServiceTest {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final String email = "first-order-" + UUID.randomUUID() + "@example.com";
+
+    @AfterEach
+    void cleanup() {
+        jdbcTemplate.update("delete from customer where email = ?", email);
+    }
+
+    @Test
+    @DisplayName("같은 신규 이메일로 동시에 첫 주문이 들어와도 고객은 하나만 생성되고 모두 같은 id 를 받는다")
+    void resolveCustomerId_ConcurrentFirstOrders() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch ready = new CountDownLatch(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<Long>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                results.add(executor.submit(() -> {
+                    ready.countDown();
+                    start.await();
+                    return customerService.resolveCustomerId(email);
+                }));
+            }
+
+            assertThat(ready.await(10, TimeUnit.SECONDS)).isTrue();
+            start.countDown();
+
+            Set<Long> ids = new HashSet<>();
+            for (Future<Long> result : results) {
+                ids.add(result.get(30, TimeUnit.SECONDS));
+            }
+
+            Long rows = jdbcTemplate.queryForObject("select count(*) from customer where email = ?", Long.class, email);
+            Long storedId = jdbcTemplate.queryForObject("select id from customer where email = ?", Long.class, email);
+
+            assertThat(rows).isEqualTo(1L);
+            assertThat(ids).containsExactly(storedId);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -1,21 +1,33 @@
 package com.back.domain.order.menu.controller;
 
+import com.back.domain.order.menu.cache.MenuCatalogCache;
 import com.back.domain.order.menu.entity.Menu;
 import com.back.domain.order.menu.repository.MenuRepository;
 import com.back.domain.order.menu.service.MenuService;
+import com.back.global.jdbc.SqlStatementCounter;
+import com.back.global.jdbc.SqlStatementCounter.Counts;
+import com.back.global.jdbc.StatementCountingConfig;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.springframework.http.MediaType;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.transaction.TestTransaction;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -25,6 +37,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @SpringBootTest
 @AutoConfigureMockMvc
 @Transactional
+@Import(StatementCountingConfig.class)
 public class MenuControllerTest {
     @Autowired
     private MockMvc mvc;
@@ -35,6 +48,12 @@ public class MenuControllerTest {
     @Autowired
     private MenuRepository menuRepository;
 
+    @Autowired
+    private MenuCatalogCache menuCatalogCache;
+
+    @Autowired
+    private EntityManager entityManager;
+
     @BeforeEach
     void setup() {
         Menu menu1 = new Menu("망패블", "tmpImgURL", 4500, "블렌디드", "example@example.com");
@@ -132,4 +151,109 @@ public class MenuControllerTest {
                 .andExpect(jsonPath("$.message").value("해당 데이터가 존재하지 않습니다."));
 
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("메뉴 조회, ETag 일치 시 304")
+    void t03() throws Exception {
+        String etag = mvc
+                .perform(get("/api/menu"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        mvc
+                .perform(get("/api/menu").header("If-None-Match", etag))
+                .andDo(print())
+                .andExpect(handler().methodName("getMenus"))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("Vary", "Accept-Encoding"))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("메뉴 조회, gzip 응답")
+    void t04() throws Exception {
+        byte[] body = mvc
+                .perform(get("/api/menu").header("Accept-Encoding", "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(header().string("Vary", "Accept-Encoding"))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            String json = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            assertThat(json).contains("\"menu_name\":\"망패블\"");
+        }
+    }
+
+    @Test
+    @DisplayName("메뉴 조회, gzip 을 직접 적은 항목이 * 보다 우선한다")
+    void t05() throws Exception {
+        // *;q=0 이어도 gzip 을 직접 허용했으므로 압축
+        mvc.perform(get("/api/menu").header("Accept-Encoding", "*;q=0, gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"));
+
+        // * 로 모두 허용해도 gzip;q=0 이면 압축하지 않음
+        mvc.perform(get("/api/menu").header("Accept-Encoding", "gzip;q=0, *"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Content-Encoding"));
+
+        // gzip 이 없으면 * 를 따른다
+        mvc.perform(get("/api/menu").header("Accept-Encoding", "br, *;q=0.5"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"));
+    }
+
+    @Test
+    @DisplayName("메뉴 조회 - 캐시 적재 시 select 한 번, 이후에는 DB 접근 없음")
+    void getMenus_StatementCount() throws Exception {
+        // 메뉴를 변경한 테스트 트랜잭션 밖에서 조회해야 캐시를 사용한다
+        TestTransaction.flagForRollback();
+        TestTransaction.end();
+        menuCatalogCache.evict();
+
+        Counts counts = SqlStatementCounter.count(() -> {
+            mvc.perform(get("/api/menu")).andExpect(status().isOk());
+            mvc.perform(get("/api/menu")).andExpect(status().isOk());
+        });
+
+        assertThat(counts).isEqualTo(new Counts(1, 0, 0, 0));
+    }
+
+    @Test
+    @DisplayName("메뉴 조회 - 캐시 적중 시 커넥션을 빌리지 않는다")
+    void getMenus_CacheHitBorrowsNoConnection() throws Exception {
+        TestTransaction.flagForRollback();
+        TestTransaction.end();
+
+        // 캐시 적재
+        mvc.perform(get("/api/menu")).andExpect(status().isOk());
+
+        SqlStatementCounter.reset();
+        mvc.perform(get("/api/menu")).andExpect(status().isOk());
+
+        assertThat(SqlStatementCounter.connections()).isZero();
+    }
+
+    @Test
+    @DisplayName("메뉴 삭제 - 조회 없이 delete 한 번")
+    void deleteMenu_StatementCount() throws Exception {
+        Menu menu = menuRepository.save(new Menu("콜드브루", "tmpImgURL", 5000, "커피", "example@example.com"));
+        entityManager.flush();
+
+        Counts counts = SqlStatementCounter.count(() ->
+                mvc.perform(delete("/api/menu/delete/{menu_id}", menu.getId())
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        { "email": "example@example.com" }
+                                        """))
+                        .andExpect(status().isOk()));
+
+        assertThat(counts).isEqualTo(new Counts(0, 0, 0, 1));
+    }
+}
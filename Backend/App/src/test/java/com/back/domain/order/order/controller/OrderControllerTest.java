@@ -10,11 +10,18 @@ import com.back.domain.order.customer.repository.CustomerRepository;
 import com.back.domain.order.order.entity.Order;
 import com.back.domain.order.orderitem.entity.OrderItem;
 import com.back.domain.order.orderitem.repository.OrderItemRepository;
+import com.back.global.jdbc.SqlStatementCounter;
+import com.back.global.jdbc.SqlStatementCounter.Counts;
+import com.back.global.jdbc.StatementCountingConfig;
+import com.jayway.jsonpath.JsonPath;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
@@ -24,9 +31,12 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.WebApplicationContext;
 import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.nullValue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -36,6 +46,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @SpringBootTest
 @AutoConfigureMockMvc
 @Transactional
+@Import(StatementCountingConfig.class)
 public class OrderControllerTest {
 
     private MockMvc mvc;
@@ -58,6 +69,12 @@ public class OrderControllerTest {
     @Autowired
     private OrderService orderService;
 
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     private Menu menu1;
     private Menu menu2;
 
@@ -465,4 +482,230 @@ public class OrderControllerTest {
         assertThat(orderItems).extracting("count")
                 .containsExactlyInAnyOrder(1, 2);
     }
+
+    @Test
+    @DisplayName("주문 내역 페이지 조회 - 커서로 이어서 조회")
+    void orderPage_Cursor() throws Exception {
+        String email = "page@test.com";
+        for (int i = 0; i < 3; i++) {
+            orderService.createOrder(new OrderDto.CreateRequest(
+                    email,
+                    "서울시 마포구 " + i,
+                    10000 + i,
+                    List.of(
+                            new OrderDto.OrderItemRequest(menu1Id, 1),
+                            new OrderDto.OrderItemRequest(menu2Id, 2)
+                    )
+            ));
+        }
+
+        String firstPage = mvc.perform(post("/api/order/list/page")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                { "email": "%s", "size": 2 }
+                                """.formatted(email)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orders.length()").value(2))
+                .andExpect(jsonPath("$.orders[0].address").value("서울시 마포구 2"))
+                .andExpect(jsonPath("$.orders[0].totalCount").value(3))
+                .andExpect(jsonPath("$.orders[0].totalPrice").value(4500 + 5000 * 2))
+                .andExpect(jsonPath("$.orders[0].items.length()").value(2))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        String cursor = JsonPath.read(firstPage, "$.nextCursor");
+
+        mvc.perform(post("/api/order/list/page")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                { "email": "%s", "cursor": "%s", "size": 2 }
+                                """.formatted(email, cursor)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orders.length()").value(1))
+                .andExpect(jsonPath("$.orders[0].address").value("서울시 마포구 0"))
+                .andExpect(jsonPath("$.nextCursor").value(nullValue()));
+    }
+
+    @Test
+    @DisplayName("주문 내역 페이지 조회 실패 - 잘못된 커서")
+    void orderPage_InvalidCursor() throws Exception {
+        mvc.perform(post("/api/order/list/page")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                { "email": "order@example.com", "cursor": "not-a-cursor" }
+                                """))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.resultCode").value("400-1"));
+    }
+
+    @Test
+    @DisplayName("주문 생성 - 같은 Idempotency-Key 로 재시도하면 주문이 한 번만 생성된다")
+    void createOrder_IdempotencyKey_Replay() throws Exception {
+        String email = "retry@test.com";
+        String requestBody = """
+                {
+                    "email": "%s",
+                    "address": "서울시 강남구",
+                    "postcode": 12345,
+                    "items": [
+                        { "menuId": %d, "count": 1 }
+                    ]
+                }
+                """.formatted(email, menu1Id);
+
+        mvc.perform(post("/api/order")
+                        .header("Idempotency-Key", "retry-key-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Idempotent-Replayed"));
+
+        mvc.perform(post("/api/order")
+                        .header("Idempotency-Key", "retry-key-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(jsonPath("$.message").value("주문이 성공적으로 등록되었습니다."));
+
+        assertThat(orderRepository.findByCustomerEmail(email)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("주문 생성 - 고객의 기존 주문 목록을 로딩하지 않는다")
+    void createOrder_DoesNotInitializeCustomerOrders() {
+        String email = "history@test.com";
+        OrderDto.CreateRequest request = new OrderDto.CreateRequest(
+                email,
+                "서울시 강남구",
+                12345,
+                List.of(new OrderDto.OrderItemRequest(menu1Id, 1))
+        );
+
+        for (int i = 0; i < 5; i++) {
+            orderService.createOrder(request);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        orderService.createOrder(request);
+
+        Customer customer = customerRepository.findByEmail(email).orElseThrow();
+        assertThat(entityManager.getEntityManagerFactory()
+                .getPersistenceUnitUtil()
+                .isLoaded(customer, "orders"))
+                .isFalse();
+
+        entityManager.flush();
+        assertThat(orderRepository.findByCustomerEmail(email)).hasSize(6);
+    }
+
+    @Test
+    @DisplayName("주문 생성 - 단계별 소요 시간이 메트릭으로 기록된다")
+    void createOrder_RecordsStageTimers() {
+        OrderDto.CreateRequest request = new OrderDto.CreateRequest(
+                "metrics@test.com",
+                "서울시 강남구",
+                12345,
+                List.of(new OrderDto.OrderItemRequest(menu1Id, 1))
+        );
+
+        long before = stageCount("validate");
+        orderService.createOrder(request);
+
+        assertThat(stageCount("validate")).isEqualTo(before + 1);
+        assertThat(stageCount("customer")).isPositive();
+        assertThat(stageCount("assemble")).isPositive();
+        assertThat(stageCount("persist")).isPositive();
+    }
+
+    private long stageCount(String stage) {
+        return meterRegistry.get("order.create.stage").tag("stage", stage).timer().count();
+    }
+
+    @Test
+    @DisplayName("주문 생성 - 상품 수와 무관하게 SQL 문 수가 일정하다")
+    void createOrder_StatementCount() throws Exception {
+        OrderDto.CreateRequest request = new OrderDto.CreateRequest(
+                "count-create@test.com",
+                "서울시 강남구",
+                12345,
+                List.of(
+                        new OrderDto.OrderItemRequest(menu1Id, 1),
+                        new OrderDto.OrderItemRequest(menu2Id, 2)
+                )
+        );
+        entityManager.flush();
+        entityManager.clear();
+
+        Counts counts = SqlStatementCounter.count(() -> {
+            orderService.createOrder(request);
+            entityManager.flush();
+        });
+
+        // select: 메뉴 일괄 조회, last_insert_id() / insert: 고객 upsert, 주문 batch, 주문 상품 batch
+        assertThat(counts).isEqualTo(new Counts(2, 3, 0, 0));
+    }
+
+    @Test
+    @DisplayName("주문 일괄 생성 - 고객 id 를 먼저 모두 얻어 주문/주문 상품/Idempotency-Key insert 가 각각 한 batch 로 나간다")
+    void createOrders_StatementCount() throws Exception {
+        List<OrderDto.CreateCommand> commands = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            commands.add(new OrderDto.CreateCommand(
+                    new OrderDto.CreateRequest(
+                            "count-batch-" + i + "@test.com",
+                            "서울시 강남구",
+                            12345,
+                            List.of(
+                                    new OrderDto.OrderItemRequest(menu1Id, 1),
+                                    new OrderDto.OrderItemRequest(menu2Id, 2)
+                            )
+                    ),
+                    UUID.randomUUID().toString()
+            ));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Counts counts = SqlStatementCounter.count(() -> {
+            orderService.createOrders(commands);
+            entityManager.flush();
+        });
+
+        // select: 메뉴 일괄 조회, 고객마다 last_insert_id()
+        // insert: 고객마다 upsert, 주문 batch, 주문 상품 batch, Idempotency-Key batch
+        assertThat(counts).isEqualTo(new Counts(4, 6, 0, 0));
+    }
+
+    @Test
+    @DisplayName("주문 내역 조회 - 주문 수와 무관하게 select 한 번")
+    void getOrderList_StatementCount() throws Exception {
+        String email = "count-list@test.com";
+        for (int i = 0; i < 3; i++) {
+            orderService.createOrder(new OrderDto.CreateRequest(
+                    email,
+                    "서울시 강남구",
+                    12345,
+                    List.of(
+                            new OrderDto.OrderItemRequest(menu1Id, 1),
+                            new OrderDto.OrderItemRequest(menu2Id, 1)
+                    )
+            ));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Counts counts = SqlStatementCounter.count(() ->
+                assertThat(orderService.getOrderList(email).orders()).hasSize(3));
+
+        assertThat(counts).isEqualTo(new Counts(1, 0, 0, 0));
+    }
 }
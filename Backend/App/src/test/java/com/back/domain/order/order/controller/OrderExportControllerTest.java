@@ -0,0 +1,146 @@
+package com.back.domain.order.order.controller;
+
+import com.back.domain.order.menu.entity.Menu;
+import com.back.domain.order.menu.repository.MenuRepository;
+import com.back.domain.order.order.dto.OrderDto;
+import com.back.domain.order.order.service.OrderService;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 내보내기는 StreamingResponseBody 로 다른 스레드(다른 커넥션)에서 조회하므로
+// 테스트 데이터를 커밋해 두고(@Transactional 없음) 끝나면 직접 지운다
+@ActiveProfiles("test")
+@SpringBootTest(properties = "order.export.enabled=true")
+@AutoConfigureMockMvc
+public class OrderExportControllerTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final String email = "export-" + UUID.randomUUID() + "@example.com";
+    private Menu americano;
+    private Menu latte;
+    private LocalDateTime from;
+    private LocalDateTime to;
+
+    @BeforeEach
+    void setup() {
+        americano = menuRepository.save(new Menu("아메리카노", "img1", 3000, "커피", "example@example.com"));
+        latte = menuRepository.save(new Menu("카페라떼, 아이스", "img2", 4000, "커피", "example@example.com"));
+
+        from = LocalDateTime.now().minusSeconds(1).withNano(0);
+        createOrder("서울시 강남구", List.of(
+                new OrderDto.OrderItemRequest(americano.getId(), 2),
+                new OrderDto.OrderItemRequest(latte.getId(), 1)
+        ));
+        createOrder("서울시 종로구", List.of(new OrderDto.OrderItemRequest(americano.getId(), 1)));
+        to = LocalDateTime.now().plusSeconds(1).withNano(0);
+    }
+
+    @AfterEach
+    void cleanup() {
+        jdbcTemplate.update("""
+                delete oi from order_item oi
+                join orders o on o.id = oi.order_id
+                join customer c on c.id = o.customer_id
+                where c.email = ?
+                """, email);
+        jdbcTemplate.update("delete o from orders o join customer c on c.id = o.customer_id where c.email = ?", email);
+        jdbcTemplate.update("delete from customer where email = ?", email);
+        jdbcTemplate.update("delete from menu where id in (?, ?)", americano.getId(), latte.getId());
+    }
+
+    private void createOrder(String address, List<OrderDto.OrderItemRequest> items) {
+        orderService.createOrder(new OrderDto.CreateRequest(email, address, 12345, items));
+    }
+
+    private MvcResult export(String format) throws Exception {
+        MvcResult started = mvc.perform(get("/api/admin/orders/export")
+                        .param("from", from.toString())
+                        .param("to", to.toString())
+                        .param("format", format))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        return mvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn();
+    }
+
+    // 같은 기간에 다른 테스트가 커밋한 주문이 섞여도 이 테스트의 주문만 본다
+    private List<String> ownLines(MvcResult result) throws Exception {
+        return Arrays.stream(result.getResponse().getContentAsString(StandardCharsets.UTF_8).split("\r?\n"))
+                .filter(line -> line.contains(email))
+                .toList();
+    }
+
+    @Test
+    @DisplayName("NDJSON 내보내기 - 주문 1건이 1줄이고 주문 상품이 items 로 묶인다")
+    void export_Ndjson() throws Exception {
+        MvcResult result = export("ndjson");
+
+        assertThat(result.getResponse().getContentType()).startsWith("application/x-ndjson");
+        assertThat(result.getResponse().getHeader("Content-Disposition")).isEqualTo(
+                "attachment; filename=\"orders_%s_%s.ndjson\"".formatted(from.toLocalDate(), to.toLocalDate()));
+
+        List<String> lines = ownLines(result);
+        assertThat(lines).hasSize(2);
+
+        assertThat((String) JsonPath.read(lines.get(0), "$.address")).isEqualTo("서울시 강남구");
+        assertThat((List<String>) JsonPath.read(lines.get(0), "$.items[*].menuName"))
+                .containsExactly("아메리카노", "카페라떼, 아이스");
+        assertThat((List<Integer>) JsonPath.read(lines.get(0), "$.items[*].count")).containsExactly(2, 1);
+
+        assertThat((String) JsonPath.read(lines.get(1), "$.address")).isEqualTo("서울시 종로구");
+        assertThat((List<String>) JsonPath.read(lines.get(1), "$.items[*].menuName")).containsExactly("아메리카노");
+    }
+
+    @Test
+    @DisplayName("CSV 내보내기 - 헤더 다음에 주문 상품 1개가 1줄로 나오고, 쉼표가 든 값은 따옴표로 감싼다")
+    void export_Csv() throws Exception {
+        MvcResult result = export("csv");
+
+        assertThat(result.getResponse().getContentType()).startsWith("text/csv");
+        assertThat(result.getResponse().getHeader("Content-Disposition")).endsWith(".csv\"");
+
+        String body = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertThat(body).startsWith("order_id,order_time,email,address,postcode,menu_name,menu_price,count\r\n");
+
+        List<String> lines = ownLines(result);
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0)).endsWith("," + email + ",서울시 강남구,12345,아메리카노,3000,2");
+        assertThat(lines.get(1)).endsWith("," + email + ",서울시 강남구,12345,\"카페라떼, 아이스\",4000,1");
+        assertThat(lines.get(2)).endsWith("," + email + ",서울시 종로구,12345,아메리카노,3000,1");
+    }
+}
@@ -0,0 +1,230 @@
+package com.back.domain.order.order.service;
+
+import com.back.domain.order.order.dto.OrderDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// group commit writer 단위 테스트 (DB 없이 OrderService 를 mock 으로 대체)
+class OrderIntakeServiceTest {
+
+    private static final long MISSING_MENU_ID = 404L;
+
+    private final OrderService orderService = mock(OrderService.class);
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+    private final List<CompletableFuture<Void>> callers = new ArrayList<>();
+    // 호출자마다 스레드가 필요하므로 공용 풀(코어 수만큼) 대신 전용 풀을 쓴다
+    private final ExecutorService callerPool = Executors.newCachedThreadPool();
+    private OrderIntakeService intakeService;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (intakeService != null) intakeService.stop();
+        callerPool.shutdownNow();
+    }
+
+    private OrderIntakeService start(int queueCapacity, int maxBatchSize, long resultTimeoutMillis) {
+        intakeService = new OrderIntakeService(orderService, true, queueCapacity, maxBatchSize, 100, resultTimeoutMillis);
+        intakeService.start();
+        return intakeService;
+    }
+
+    private static OrderDto.CreateCommand command(String email, long... menuIds) {
+        List<OrderDto.OrderItemRequest> items = new ArrayList<>();
+        for (long menuId : menuIds) {
+            items.add(new OrderDto.OrderItemRequest(menuId, 1));
+        }
+        return new OrderDto.CreateCommand(new OrderDto.CreateRequest(email, "서울시 강남구", 12345, items));
+    }
+
+    // 요청 스레드처럼 별도 스레드에서 createOrder 를 호출하고 결과를 돌려받는다
+    private CompletableFuture<Void> submit(OrderDto.CreateCommand command) {
+        CompletableFuture<Void> caller = CompletableFuture.runAsync(() -> intakeService.createOrder(command), callerPool);
+        callers.add(caller);
+        return caller;
+    }
+
+    private static Throwable failureOf(CompletableFuture<Void> caller) throws InterruptedException {
+        try {
+            caller.get(5, TimeUnit.SECONDS);
+            return null;
+        } catch (ExecutionException e) {
+            return e.getCause();
+        } catch (TimeoutException e) {
+            throw new AssertionError("주문 결과를 받지 못했습니다.", e);
+        }
+    }
+
+    // 첫 batch 커밋을 latch 로 붙잡아 두어, 그동안 들어온 주문이 다음 batch 로 모이게 한다
+    private CountDownLatch blockFirstBatch(CountDownLatch firstBatchStarted) {
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            List<?> commands = invocation.getArgument(0);
+            batchSizes.add(commands.size());
+            if (batchSizes.size() == 1) {
+                firstBatchStarted.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+            return null;
+        }).when(orderService).createOrders(anyList());
+        return release;
+    }
+
+    @Test
+    @DisplayName("writer 가 커밋하는 동안 들어온 주문은 다음 batch 하나로 모여 커밋된다")
+    void batchesQueuedOrders() throws Exception {
+        CountDownLatch firstBatchStarted = new CountDownLatch(1);
+        CountDownLatch release = blockFirstBatch(firstBatchStarted);
+        start(100, 100, 5000);
+
+        submit(command("first@test.com", 1));
+        assertThat(firstBatchStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        for (int i = 0; i < 5; i++) {
+            submit(command("user" + i + "@test.com", 1));
+        }
+        awaitQueued(5);
+        release.countDown();
+
+        for (CompletableFuture<Void> caller : callers) {
+            assertThat(failureOf(caller)).isNull();
+        }
+        assertThat(batchSizes).containsExactly(1, 5);
+    }
+
+    @Test
+    @DisplayName("batch 안에서 실패한 주문은 해당 호출자에게만 실패가 돌아간다")
+    void failsOnlyTheBrokenOrder() throws Exception {
+        CountDownLatch firstBatchStarted = new CountDownLatch(1);
+        CountDownLatch release = blockFirstBatch(firstBatchStarted);
+        when(orderService.findMissingMenuIds(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> menuIds = invocation.getArgument(0);
+            return menuIds.contains(MISSING_MENU_ID) ? Set.of(MISSING_MENU_ID) : Set.of();
+        });
+        start(100, 100, 5000);
+
+        CompletableFuture<Void> first = submit(command("first@test.com", 1));
+        assertThat(firstBatchStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<Void> ok = submit(command("ok@test.com", 1));
+        CompletableFuture<Void> missingMenu = submit(command("missing@test.com", 1, MISSING_MENU_ID));
+        awaitQueued(2);
+        release.countDown();
+
+        assertThat(failureOf(first)).isNull();
+        assertThat(failureOf(ok)).isNull();
+        assertThat(failureOf(missingMenu))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(String.valueOf(MISSING_MENU_ID));
+        assertThat(batchSizes).containsExactly(1, 1);
+    }
+
+    @Test
+    @DisplayName("batch 커밋이 실패하면 주문별로 다시 커밋해 각자의 결과를 돌려준다")
+    void fallsBackToPerOrderCommit() throws Exception {
+        doThrow(new IllegalStateException("deadlock")).when(orderService).createOrders(anyList());
+        OrderDto.CreateCommand bad = command("bad@test.com", 1);
+        doAnswer(invocation -> {
+            if (invocation.getArgument(0) == bad) throw new IllegalArgumentException("잘못된 주문");
+            return null;
+        }).when(orderService).createOrder(any(OrderDto.CreateCommand.class));
+        start(100, 100, 5000);
+
+        CompletableFuture<Void> good = submit(command("good@test.com", 1));
+        CompletableFuture<Void> broken = submit(bad);
+
+        assertThat(failureOf(good)).isNull();
+        assertThat(failureOf(broken))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 주문");
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 offer-timeout 뒤 RejectedExecutionException(503) 으로 거절한다")
+    void rejectsWhenQueueIsFull() throws Exception {
+        CountDownLatch firstBatchStarted = new CountDownLatch(1);
+        CountDownLatch release = blockFirstBatch(firstBatchStarted);
+        start(1, 100, 5000);
+
+        CompletableFuture<Void> inFlight = submit(command("first@test.com", 1));
+        assertThat(firstBatchStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Void> queued = submit(command("queued@test.com", 1));
+        awaitQueued(1);
+
+        assertThatThrownBy(() -> intakeService.createOrder(command("rejected@test.com", 1)))
+                .isInstanceOf(RejectedExecutionException.class);
+
+        release.countDown();
+        assertThat(failureOf(inFlight)).isNull();
+        assertThat(failureOf(queued)).isNull();
+    }
+
+    @Test
+    @DisplayName("커밋 결과가 result-timeout 안에 오지 않으면 RejectedExecutionException(503) 으로 응답한다")
+    void rejectsWhenResultTimesOut() throws Exception {
+        CountDownLatch firstBatchStarted = new CountDownLatch(1);
+        CountDownLatch release = blockFirstBatch(firstBatchStarted);
+        start(100, 100, 200);
+
+        try {
+            assertThatThrownBy(() -> intakeService.createOrder(command("slow@test.com", 1)))
+                    .isInstanceOf(RejectedExecutionException.class);
+            assertThat(firstBatchStarted.getCount()).isZero();
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("writer 에서 Error 가 나도 해당 batch 호출자에게 실패를 돌려주고 다음 주문은 계속 처리한다")
+    void survivesErrorInWriter() throws Exception {
+        doAnswer(invocation -> {
+            batchSizes.add(((List<?>) invocation.getArgument(0)).size());
+            if (batchSizes.size() == 1) throw new OutOfMemoryError("test");
+            return null;
+        }).when(orderService).createOrders(anyList());
+        start(100, 100, 5000);
+
+        CompletableFuture<Void> first = submit(command("first@test.com", 1));
+        assertThat(failureOf(first))
+                .isInstanceOf(IllegalStateException.class)
+                .hasCauseInstanceOf(OutOfMemoryError.class);
+
+        CompletableFuture<Void> next = submit(command("next@test.com", 1));
+        assertThat(failureOf(next)).isNull();
+        assertThat(batchSizes).containsExactly(1, 1);
+    }
+
+    // 호출 스레드들이 큐에 주문을 넣을 때까지 기다린다
+    private void awaitQueued(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (intakeService.queuedOrders() < expected) {
+            if (System.nanoTime() > deadline) throw new AssertionError("큐에 주문이 쌓이지 않았습니다.");
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.back.domain.order.shipment.controller;
+
+import com.back.domain.order.menu.entity.Menu;
+import com.back.domain.order.menu.repository.MenuRepository;
+import com.back.domain.order.order.dto.OrderDto;
+import com.back.domain.order.order.service.OrderService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = "shipment.batch.api-enabled=true")
+@AutoConfigureMockMvc
+@Transactional
+public class ShipmentBatchControllerTest {
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Menu menu;
+
+    @BeforeEach
+    void setup() {
+        menu = menuRepository.save(new Menu("아메리카노", "img1", 3000, "커피", "example@example.com"));
+
+        // 같은 배송지 2건 + 다른 배송지 1건
+        createOrder("a@test.com", "서울시 강남구", 12345);
+        createOrder("a@test.com", "서울시 강남구", 12345);
+        createOrder("a@test.com", "서울시 종로구", 11111);
+
+        // 배치는 JDBC 로 주문을 읽으므로 미리 flush
+        entityManager.flush();
+    }
+
+    private void createOrder(String email, String address, int postcode) {
+        orderService.createOrder(new OrderDto.CreateRequest(
+                email,
+                address,
+                postcode,
+                List.of(new OrderDto.OrderItemRequest(menu.getId(), 1))
+        ));
+    }
+
+    @Test
+    @DisplayName("택배 묶음 배치 - 배송지별로 묶이고, 다시 실행해도 중복되지 않는다")
+    void t00() throws Exception {
+        String cutoff = LocalDateTime.now().plusMinutes(1).withNano(0).toString();
+
+        mvc.perform(post("/api/admin/shipments/batch").param("cutoff", cutoff))
+                .andDo(print())
+                .andExpect(handler().handlerType(ShipmentBatchController.class))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.resultCode").value("200-1"))
+                .andExpect(jsonPath("$.data.ordersProcessed").value(3))
+                .andExpect(jsonPath("$.data.shipmentsCreated").value(2));
+
+        mvc.perform(post("/api/admin/shipments/batch").param("cutoff", cutoff))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.ordersProcessed").value(0))
+                .andExpect(jsonPath("$.data.shipmentsCreated").value(0));
+    }
+
+    @Test
+    @DisplayName("택배 묶음 배치 - 대소문자만 다른 배송지는 DB collation 대로 하나의 택배로 묶인다")
+    void t01() throws Exception {
+        createOrder("a@test.com", "Seoul Apt 3B", 22222);
+        createOrder("a@test.com", "seoul apt 3b", 22222);
+        entityManager.flush();
+
+        String cutoff = LocalDateTime.now().plusMinutes(1).withNano(0).toString();
+
+        mvc.perform(post("/api/admin/shipments/batch").param("cutoff", cutoff))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.ordersProcessed").value(5))
+                .andExpect(jsonPath("$.data.shipmentsCreated").value(3));
+
+        Long linked = (Long) entityManager.createQuery("""
+                        select count(so) from ShipmentOrder so
+                        where so.shipment.address = 'Seoul Apt 3B' or so.shipment.address = 'seoul apt 3b'
+                        """)
+                .getSingleResult();
+        assertThat(linked).isEqualTo(2L);
+
+        // 다시 실행해도 같은 chunk 에서 실패하지 않고 아무것도 더 만들지 않는다
+        mvc.perform(post("/api/admin/shipments/batch").param("cutoff", cutoff))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.ordersProcessed").value(0))
+                .andExpect(jsonPath("$.data.shipmentsCreated").value(0));
+    }
+}
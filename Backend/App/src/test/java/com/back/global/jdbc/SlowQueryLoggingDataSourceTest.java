@@ -0,0 +1,123 @@
+package com.back.global.jdbc;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 실제 DB 없이 mock 커넥션으로 SlowQueryLoggingDataSource 의 로그만 검증한다
+class SlowQueryLoggingDataSourceTest {
+
+    private static final String SQL = """
+            select o.id
+            from orders o
+            where o.customer_id = ? and o.address = ?
+            """;
+
+    private final ListAppender<ILoggingEvent> logs = new ListAppender<>();
+    private final Logger logger = (Logger) LoggerFactory.getLogger(SlowQueryLoggingDataSource.class);
+
+    private DataSource target;
+
+    @BeforeEach
+    void setup() throws SQLException {
+        Connection connection = mock(Connection.class);
+        when(connection.prepareStatement(anyString())).thenAnswer(invocation -> mock(PreparedStatement.class));
+
+        target = mock(DataSource.class);
+        when(target.getConnection()).thenReturn(connection);
+
+        logs.start();
+        logger.addAppender(logs);
+        logger.setLevel(Level.INFO);
+    }
+
+    @AfterEach
+    void cleanup() {
+        logger.detachAppender(logs);
+        logger.setLevel(null);
+    }
+
+    private void runQuery(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement ps = connection.prepareStatement(SQL)) {
+            ps.setLong(1, 42L);
+            ps.setString(2, "서울시 강남구");
+            ps.executeQuery();
+        }
+    }
+
+    @Test
+    @DisplayName("threshold 이상 걸린 SQL 은 한 줄로 정리된 SQL 과 바인딩 값을 WARN 으로 남긴다")
+    void logsSlowQueryWithBinds() throws SQLException {
+        runQuery(new SlowQueryLoggingDataSource(target, 0, 0, 2000));
+
+        assertThat(logs.list).hasSize(1);
+        ILoggingEvent event = logs.list.get(0);
+        assertThat(event.getLevel()).isEqualTo(Level.WARN);
+        assertThat(event.getFormattedMessage())
+                .startsWith("slow_query elapsed_ms=")
+                .contains("batch_size=0")
+                .contains("sql=\"select o.id from orders o where o.customer_id = ? and o.address = ?\"")
+                .endsWith("binds=[42, 서울시 강남구]");
+    }
+
+    @Test
+    @DisplayName("batch 실행은 batch 크기와 마지막 행의 바인딩 값을 남기고, setNull 은 null 로 기록한다")
+    void logsBatchSizeAndLastRowBinds() throws SQLException {
+        DataSource dataSource = new SlowQueryLoggingDataSource(target, 0, 0, 2000);
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement ps = connection.prepareStatement("insert into menu (id, menu_name) values (?, ?)")) {
+            for (long id = 1; id <= 3; id++) {
+                ps.setLong(1, id);
+                if (id == 3) ps.setNull(2, Types.VARCHAR);
+                else ps.setString(2, "menu" + id);
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        }
+
+        assertThat(logs.list).singleElement().satisfies(event -> assertThat(event.getFormattedMessage())
+                .contains("batch_size=3")
+                .endsWith("binds=[3, null]"));
+    }
+
+    @Test
+    @DisplayName("threshold 미만이고 sample-rate 가 0 이면 아무것도 남기지 않는다")
+    void ignoresFastQuery() throws SQLException {
+        runQuery(new SlowQueryLoggingDataSource(target, 60_000, 0, 2000));
+
+        assertThat(logs.list).isEmpty();
+    }
+
+    @Test
+    @DisplayName("threshold 미만이 샘플링되면 INFO 로 SQL 만 남기고 바인딩 값은 남기지 않는다")
+    void samplesFastQueryWithoutBinds() throws SQLException {
+        runQuery(new SlowQueryLoggingDataSource(target, 60_000, 1, 20));
+
+        assertThat(logs.list).singleElement().satisfies(event -> {
+            assertThat(event.getLevel()).isEqualTo(Level.INFO);
+            assertThat(event.getFormattedMessage())
+                    .startsWith("sampled_query elapsed_ms=")
+                    .endsWith("sql=\"select o.id from ord...\"")
+                    .doesNotContain("binds");
+        });
+    }
+}
@@ -0,0 +1,99 @@
+package com.back.global.jdbc;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+// DataSource 수준에서 실행된 SQL 문 수를 종류별로 센다 (StatementCountingConfig 로 활성화)
+// - JPA, Spring Data, JdbcTemplate, 네이티브 쿼리 모두 포함
+// - executeBatch 는 DB 왕복 한 번이므로 1개로 센다
+// - 풀에서 빌린 커넥션 수도 함께 센다 (SQL 없이 트랜잭션만 열어도 커넥션을 빌린다)
+//
+// 사용 예)
+//   Counts counts = SqlStatementCounter.count(() -> orderService.getOrderList(email));
+//   assertThat(counts).isEqualTo(new Counts(1, 0, 0, 0));
+public final class SqlStatementCounter {
+
+    private static final AtomicLong SELECT = new AtomicLong();
+    private static final AtomicLong INSERT = new AtomicLong();
+    private static final AtomicLong UPDATE = new AtomicLong();
+    private static final AtomicLong DELETE = new AtomicLong();
+    private static final AtomicLong CONNECTIONS = new AtomicLong();
+
+    public record Counts(long select, long insert, long update, long delete) {
+    }
+
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+
+    private SqlStatementCounter() {
+    }
+
+    // action 실행 중에 나간 SQL 문 수
+    public static Counts count(Action action) throws Exception {
+        reset();
+        action.run();
+        return snapshot();
+    }
+
+    public static void reset() {
+        SELECT.set(0);
+        INSERT.set(0);
+        UPDATE.set(0);
+        DELETE.set(0);
+        CONNECTIONS.set(0);
+    }
+
+    // 마지막 reset 이후 DataSource 에서 빌린 커넥션 수
+    public static long connections() {
+        return CONNECTIONS.get();
+    }
+
+    static void recordConnection() {
+        CONNECTIONS.incrementAndGet();
+    }
+
+    public static Counts snapshot() {
+        return new Counts(SELECT.get(), INSERT.get(), UPDATE.get(), DELETE.get());
+    }
+
+    static void record(String sql) {
+        if (sql == null) return;
+
+        switch (firstKeyword(sql)) {
+            case "select", "with" -> SELECT.incrementAndGet();
+            case "insert", "replace" -> INSERT.incrementAndGet();
+            case "update" -> UPDATE.incrementAndGet();
+            case "delete" -> DELETE.incrementAndGet();
+            default -> {
+            }
+        }
+    }
+
+    // 앞쪽 공백과 주석(/* */, --)을 건너뛴 첫 단어 (hibernate.use_sql_comments 대응)
+    private static String firstKeyword(String sql) {
+        int i = 0;
+        int length = sql.length();
+        while (i < length) {
+            char c = sql.charAt(i);
+            if (Character.isWhitespace(c) || c == '(') {
+                i++;
+            } else if (sql.startsWith("/*", i)) {
+                int end = sql.indexOf("*/", i + 2);
+                i = end < 0 ? length : end + 2;
+            } else if (sql.startsWith("--", i)) {
+                int end = sql.indexOf('\n', i);
+                i = end < 0 ? length : end + 1;
+            } else {
+                break;
+            }
+        }
+
+        int end = i;
+        while (end < length && Character.isLetter(sql.charAt(end))) {
+            end++;
+        }
+        return sql.substring(i, end).toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,82 @@
+package com.back.global.jdbc;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+// 실행되는 Statement 를 SqlStatementCounter 에 기록하는 DataSource
+public class StatementCountingDataSource extends DelegatingDataSource {
+
+    public StatementCountingDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrapConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrapConnection(super.getConnection(username, password));
+    }
+
+    private static Connection wrapConnection(Connection target) {
+        SqlStatementCounter.recordConnection();
+        return (Connection) Proxy.newProxyInstance(
+                StatementCountingDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("unwrap") && args != null && args[0] == Connection.class) {
+                        return proxy;
+                    }
+
+                    Object result = invoke(method, target, args);
+                    return switch (method.getName()) {
+                        case "prepareStatement" -> wrapStatement(result, PreparedStatement.class, (String) args[0]);
+                        case "prepareCall" -> wrapStatement(result, CallableStatement.class, (String) args[0]);
+                        case "createStatement" -> wrapStatement(result, Statement.class, null);
+                        default -> result;
+                    };
+                }
+        );
+    }
+
+    private static Object wrapStatement(Object target, Class<? extends Statement> type, String preparedSql) {
+        String[] batchSql = {preparedSql};
+
+        return Proxy.newProxyInstance(
+                StatementCountingDataSource.class.getClassLoader(),
+                new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    String name = method.getName();
+                    String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : preparedSql;
+
+                    if (name.equals("addBatch") && batchSql[0] == null) {
+                        batchSql[0] = sql;
+                    } else if (name.equals("executeBatch") || name.equals("executeLargeBatch")) {
+                        SqlStatementCounter.record(batchSql[0]);
+                    } else if (name.startsWith("execute")) {
+                        SqlStatementCounter.record(sql);
+                    }
+                    return invoke(method, target, args);
+                }
+        );
+    }
+
+    private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}